@@ -0,0 +1,46 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hltech.vaunt.validator.payload.PayloadValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@State(Scope.Benchmark)
+public class PayloadValidationBenchmark {
+
+    @Param({"4", "16", "64"})
+    int width;
+
+    @Param({"1", "4"})
+    int depth;
+
+    @Param({"4", "64"})
+    int enumSize;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private PayloadValidator validator;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        validator = PayloadValidator.compile(SyntheticSchemas.message("Message", width, depth, enumSize));
+        payload = SyntheticSchemas.payload(width, depth).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return validator.isValid(payload);
+    }
+
+    @Benchmark
+    public JsonNode readTree() throws IOException {
+        return mapper.readTree(payload);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.core.VauntSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class SchemaGenerationBenchmark {
+
+    @Param({"4", "16", "64"})
+    int width;
+
+    @Param({"1", "4"})
+    int depth;
+
+    @Param({"4", "64"})
+    int enumSize;
+
+    private final VauntSerializer serializer = new VauntSerializer();
+    private Class<?> messageClass;
+
+    @Setup
+    public void setUp() {
+        messageClass = SyntheticSchemas.messageClass(width, depth, enumSize);
+    }
+
+    @Benchmark
+    public JsonSchema generateSchema() throws JsonMappingException {
+        return serializer.generateSchema(messageClass);
+    }
+}
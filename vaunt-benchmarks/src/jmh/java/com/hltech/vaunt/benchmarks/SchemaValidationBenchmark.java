@@ -0,0 +1,39 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.validator.ValidationError;
+import com.hltech.vaunt.validator.schema.SchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+
+    @Param({"4", "16", "64"})
+    int width;
+
+    @Param({"1", "4", "16"})
+    int depth;
+
+    @Param({"4", "64"})
+    int enumSize;
+
+    private JsonSchema consumerSchema;
+    private JsonSchema providerSchema;
+
+    @Setup
+    public void setUp() {
+        consumerSchema = SyntheticSchemas.message("Message", width, depth, enumSize);
+        providerSchema = SyntheticSchemas.message("Message", width, depth, enumSize);
+    }
+
+    @Benchmark
+    public List<ValidationError> validate() {
+        return SchemaValidator.findErrors(consumerSchema, providerSchema);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.hltech.vaunt.core.SerializationFormat;
+import com.hltech.vaunt.core.ServiceDefinitionHandler;
+import com.hltech.vaunt.core.VauntSerializer;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+@State(Scope.Benchmark)
+public class ServiceDefinitionReadBenchmark {
+
+    @Param({"1", "10", "100"})
+    int contractCount;
+
+    @Param({"8", "32"})
+    int width;
+
+    @Param({"3"})
+    int depth;
+
+    @Param({"16"})
+    int enumSize;
+
+    @Param({"JSON", "SMILE"})
+    SerializationFormat format;
+
+    private final VauntSerializer serializer = new VauntSerializer();
+    private byte[] serviceDefinition;
+    private File serviceDefinitionFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Service consumer = SyntheticSchemas.consumer(contractCount, width, depth, enumSize);
+        Service provider = SyntheticSchemas.provider(contractCount, width, depth, enumSize);
+        serviceDefinition = serializer.serializeToBytes(new Service(
+                consumer.getName(), provider.getCapabilities(), consumer.getExpectations()), format);
+
+        serviceDefinitionFile = File.createTempFile("service", format.getFileExtension());
+        Files.write(serviceDefinitionFile.toPath(), serviceDefinition);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(serviceDefinitionFile.toPath());
+    }
+
+    @Benchmark
+    public Service readServiceDefinition() {
+        return serializer.readServiceDefinition(serviceDefinitionFile);
+    }
+
+    @Benchmark
+    public void streamServiceDefinition(Blackhole blackhole) {
+        serializer.readServiceDefinition(new ByteArrayInputStream(serviceDefinition), new ServiceDefinitionHandler() {
+            @Override
+            public void onCapability(Contract contract) {
+                blackhole.consume(contract);
+            }
+
+            @Override
+            public void onExpectation(String providerName, Contract contract) {
+                blackhole.consume(contract);
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.hltech.vaunt.core.domain.model.Service;
+import com.hltech.vaunt.validator.ValidationResult;
+import com.hltech.vaunt.validator.VauntValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class ServiceValidationBenchmark {
+
+    @Param({"1", "10", "100"})
+    int contractCount;
+
+    @Param({"8", "32"})
+    int width;
+
+    @Param({"3"})
+    int depth;
+
+    @Param({"16"})
+    int enumSize;
+
+    private final VauntValidator validator = new VauntValidator();
+    private Service consumer;
+    private Service provider;
+
+    @Setup
+    public void setUp() {
+        consumer = SyntheticSchemas.consumer(contractCount, width, depth, enumSize);
+        provider = SyntheticSchemas.provider(contractCount, width, depth, enumSize);
+    }
+
+    @Benchmark
+    public List<ValidationResult> validate() {
+        return validator.validate(consumer, provider);
+    }
+}
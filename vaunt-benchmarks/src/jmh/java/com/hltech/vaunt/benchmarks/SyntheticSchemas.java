@@ -0,0 +1,180 @@
+package com.hltech.vaunt.benchmarks;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import com.hltech.vaunt.core.domain.model.Capabilities;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import com.hltech.vaunt.core.domain.model.Expectations;
+import com.hltech.vaunt.core.domain.model.Service;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class SyntheticSchemas {
+
+    static final String PROVIDER_NAME = "provider";
+    static final String CONSUMER_NAME = "consumer";
+
+    private static final String PACKAGE = SyntheticSchemas.class.getPackage().getName();
+
+    private SyntheticSchemas() {
+    }
+
+    static JsonSchema message(String id, int width, int depth, int enumSize) {
+        Map<String, JsonSchema> properties = new LinkedHashMap<>();
+
+        for (int property = 0; property < width; property++) {
+            properties.put("field" + property, property == 0 && depth > 1
+                    ? message(id + "Level" + (depth - 1), width, depth - 1, enumSize)
+                    : leaf(id, property, enumSize));
+        }
+
+        ObjectSchema schema = new ObjectSchema();
+        schema.setId(id);
+        schema.setProperties(properties);
+        return schema;
+    }
+
+    static String payload(int width, int depth) {
+        StringBuilder payload = new StringBuilder("{");
+
+        for (int property = 0; property < width; property++) {
+            if (property > 0) {
+                payload.append(',');
+            }
+            payload.append("\"field").append(property).append("\":");
+
+            if (property == 0 && depth > 1) {
+                payload.append(payload(width, depth - 1));
+            } else {
+                payload.append(leafValue(property));
+            }
+        }
+
+        return payload.append('}').toString();
+    }
+
+    static Service provider(int contractCount, int width, int depth, int enumSize) {
+        return new Service(
+                PROVIDER_NAME,
+                new Capabilities(contracts(contractCount, width, depth, enumSize)),
+                new Expectations(ArrayListMultimap.create()));
+    }
+
+    static Service consumer(int contractCount, int width, int depth, int enumSize) {
+        Multimap<String, Contract> expectations = ArrayListMultimap.create();
+        expectations.putAll(PROVIDER_NAME, contracts(contractCount, width, depth, enumSize));
+
+        return new Service(CONSUMER_NAME, new Capabilities(new ArrayList<>()), new Expectations(expectations));
+    }
+
+    static Class<?> messageClass(int width, int depth, int enumSize) {
+        ClassLoader classLoader = SyntheticSchemas.class.getClassLoader();
+        Class<?> nested = null;
+
+        for (int level = 1; level <= depth; level++) {
+            Class<?> enumType = new ByteBuddy()
+                    .makeEnumeration(enumValues(enumSize))
+                    .name(PACKAGE + ".SyntheticEnum" + level)
+                    .make()
+                    .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+
+            DynamicType.Builder<Object> builder = new ByteBuddy()
+                    .subclass(Object.class)
+                    .name(PACKAGE + ".SyntheticMessage" + level);
+
+            for (int property = 0; property < width; property++) {
+                builder = builder.defineField("field" + property,
+                        fieldType(property, nested, enumType), Visibility.PUBLIC);
+            }
+
+            nested = builder.make()
+                    .load(enumType.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+            classLoader = nested.getClassLoader();
+        }
+
+        return nested;
+    }
+
+    private static List<Contract> contracts(int contractCount, int width, int depth, int enumSize) {
+        return IntStream.range(0, contractCount)
+                .mapToObj(contract -> new Contract(
+                        DestinationType.QUEUE,
+                        "queue" + contract,
+                        message("Message" + contract, width, depth, enumSize)))
+                .collect(Collectors.toList());
+    }
+
+    private static JsonSchema leaf(String id, int property, int enumSize) {
+        switch (property % 3) {
+            case 0:
+                StringSchema enumSchema = new StringSchema();
+                enumSchema.setId(id + "Enum" + property);
+                enumSchema.setEnums(enumValueSet(enumSize));
+                return enumSchema;
+            case 1:
+                IntegerSchema integerSchema = new IntegerSchema();
+                integerSchema.setId(id + "Integer" + property);
+                integerSchema.setMinimum(0.0);
+                return integerSchema;
+            default:
+                StringSchema stringSchema = new StringSchema();
+                stringSchema.setId(id + "String" + property);
+                stringSchema.setMaxLength(255);
+                return stringSchema;
+        }
+    }
+
+    private static String leafValue(int property) {
+        switch (property % 3) {
+            case 0:
+                return "\"VALUE_0\"";
+            case 1:
+                return String.valueOf(property);
+            default:
+                return "\"value" + property + "\"";
+        }
+    }
+
+    private static Class<?> fieldType(int property, Class<?> nested, Class<?> enumType) {
+        if (property == 0 && nested != null) {
+            return nested;
+        }
+
+        switch (property % 3) {
+            case 0:
+                return enumType;
+            case 1:
+                return Integer.class;
+            default:
+                return String.class;
+        }
+    }
+
+    private static Set<String> enumValueSet(int enumSize) {
+        return IntStream.range(0, enumSize)
+                .mapToObj(value -> "VALUE_" + value)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static String[] enumValues(int enumSize) {
+        return enumValueSet(enumSize).toArray(new String[0]);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hltech.vaunt.core;
+
+import com.hltech.vaunt.core.domain.model.Service;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class LoadedServices {
+    private final Map<Path, Service> pathToService;
+    private final Map<Path, VauntSerializationException> failures;
+
+    public List<Service> getServices() {
+        return new ArrayList<>(pathToService.values());
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
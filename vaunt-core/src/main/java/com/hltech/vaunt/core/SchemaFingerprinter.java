@@ -0,0 +1,166 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SchemaFingerprinter {
+
+    private static final HashCode CYCLE = HashCode.fromInt(0);
+    private static final HashCode EMPTY = HashCode.fromInt(1);
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        fields.add(field);
+                    }
+                }
+            }
+
+            Field[] accessible = fields.toArray(new Field[0]);
+            AccessibleObject.setAccessible(accessible, true);
+            return accessible;
+        }
+    };
+
+    private final Map<JsonSchema, HashCode> fingerprints;
+    private final Set<JsonSchema> expanded = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public SchemaFingerprinter() {
+        this(new IdentityHashMap<>());
+    }
+
+    public SchemaFingerprinter(Map<JsonSchema, HashCode> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    public HashCode fingerprint(JsonSchema schema) {
+        HashCode fingerprint = fingerprints.get(schema);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+
+        Deque<JsonSchema> pending = new ArrayDeque<>();
+        pending.push(schema);
+
+        while (!pending.isEmpty()) {
+            JsonSchema current = pending.peek();
+
+            if (fingerprints.containsKey(current)) {
+                pending.pop();
+            } else if (expanded.add(current)) {
+                SchemaTree.forEachChild(current, (slot, child) -> {
+                    if (!fingerprints.containsKey(child)) {
+                        pending.push(child);
+                    }
+                });
+            } else {
+                pending.pop();
+                fingerprints.put(current, compute(current));
+                expanded.remove(current);
+            }
+        }
+
+        return fingerprints.get(schema);
+    }
+
+    private HashCode compute(JsonSchema schema) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putObject(hasher, schema);
+
+        return hasher.hash();
+    }
+
+    private void putValue(Hasher hasher, Object value) {
+        if (value == null) {
+            hasher.putByte((byte) 0);
+        } else if (value instanceof JsonSchema) {
+            hasher.putByte((byte) 1).putBytes(childFingerprint((JsonSchema) value).asBytes());
+        } else if (isScalar(value)) {
+            putString(hasher.putByte((byte) 2), value.getClass().getName());
+            putString(hasher, value.toString());
+        } else if (value instanceof Set) {
+            hasher.putByte((byte) 3).putBytes(unordered((Set<?>) value).asBytes());
+        } else if (value instanceof Map) {
+            hasher.putByte((byte) 4).putBytes(unordered(((Map<?, ?>) value).entrySet()).asBytes());
+        } else if (value instanceof Map.Entry) {
+            putValue(hasher.putByte((byte) 5), ((Map.Entry<?, ?>) value).getKey());
+            putValue(hasher, ((Map.Entry<?, ?>) value).getValue());
+        } else if (value instanceof Collection) {
+            hasher.putByte((byte) 6).putInt(((Collection<?>) value).size());
+            ((Collection<?>) value).forEach(element -> putValue(hasher, element));
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            hasher.putByte((byte) 7).putInt(length);
+            for (int index = 0; index < length; index++) {
+                putValue(hasher, Array.get(value, index));
+            }
+        } else {
+            putObject(hasher.putByte((byte) 8), value);
+        }
+    }
+
+    private void putObject(Hasher hasher, Object value) {
+        putString(hasher, value.getClass().getName());
+
+        try {
+            for (Field field : FIELDS.get(value.getClass())) {
+                putValue(hasher, field.get(value));
+            }
+        } catch (IllegalAccessException ex) {
+            throw new VauntSerializationException("Unable to compute fingerprint of " + value.getClass(), ex);
+        }
+    }
+
+    private HashCode unordered(Collection<?> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<HashCode> hashes = new ArrayList<>(values.size());
+        for (Object value : values) {
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            putValue(hasher, value);
+            hashes.add(hasher.hash());
+        }
+
+        return Hashing.combineUnordered(hashes);
+    }
+
+    private HashCode childFingerprint(JsonSchema child) {
+        HashCode fingerprint = fingerprints.get(child);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+
+        return expanded.contains(child) ? CYCLE : fingerprint(child);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum;
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.HashCode;
+import com.hltech.vaunt.core.domain.model.Capabilities;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.Expectations;
+import com.hltech.vaunt.core.domain.model.Service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+public class SchemaInterner {
+
+    private final ConcurrentMap<HashCode, JsonSchema> canonicalSchemas = new MapMaker().weakValues().makeMap();
+    private final ConcurrentMap<JsonSchema, Boolean> canonicalInstances = new MapMaker().weakKeys().makeMap();
+    private final ConcurrentMap<JsonSchema, HashCode> fingerprints = new MapMaker().weakKeys().makeMap();
+
+    public Service intern(Service service) {
+        Service interned = new Service(
+                service.getName(),
+                service.getCapabilities() == null ? null : internCapabilities(service.getCapabilities()),
+                service.getExpectations() == null ? null : internExpectations(service.getExpectations()));
+        service.getDefinitions().forEach((name, schema) -> interned.getDefinitions().put(name, intern(schema)));
+
+        return interned;
+    }
+
+    public Contract intern(Contract contract) {
+        if (!contract.isMessageLoaded()) {
+            return contract;
+        }
+
+        JsonSchema message = intern(contract.getMessage());
+
+        return message == contract.getMessage()
+                ? contract
+                : new Contract(contract.getDestinationType(), contract.getDestinationName(), message);
+    }
+
+    public JsonSchema intern(JsonSchema schema) {
+        return intern(schema, new SchemaFingerprinter(fingerprints));
+    }
+
+    private JsonSchema intern(JsonSchema schema, SchemaFingerprinter fingerprinter) {
+        if (schema == null || canonicalInstances.containsKey(schema)) {
+            return schema;
+        }
+
+        HashCode fingerprint = fingerprinter.fingerprint(schema);
+        JsonSchema canonical = canonicalSchemas.get(fingerprint);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        JsonSchema copy = SchemaTree.copy(schema, child -> intern(child, fingerprinter));
+        canonicalInstances.put(copy, Boolean.TRUE);
+        canonical = canonicalSchemas.putIfAbsent(fingerprint, copy);
+
+        return canonical == null ? copy : canonical;
+    }
+
+    public ServiceDefinitionHandler interning(ServiceDefinitionHandler handler) {
+        return new ServiceDefinitionHandler() {
+            @Override
+            public void onName(String name) {
+                handler.onName(name);
+            }
+
+            @Override
+            public void onDefinition(String name, JsonSchema schema) {
+                handler.onDefinition(name, intern(schema));
+            }
+
+            @Override
+            public void onCapability(Contract contract) {
+                handler.onCapability(intern(contract));
+            }
+
+            @Override
+            public void onExpectation(String providerName, Contract contract) {
+                handler.onExpectation(providerName, intern(contract));
+            }
+        };
+    }
+
+    public int size() {
+        return canonicalSchemas.size();
+    }
+
+    private Capabilities internCapabilities(Capabilities capabilities) {
+        List<Contract> contracts = capabilities.getContracts().stream()
+                .map(this::intern)
+                .collect(Collectors.toList());
+
+        return new Capabilities(contracts);
+    }
+
+    private Expectations internExpectations(Expectations expectations) {
+        Multimap<String, Contract> providerNameToContracts = ArrayListMultimap.create();
+        expectations.getProviderNameToContracts()
+                .forEach((providerName, contract) -> providerNameToContracts.put(providerName, intern(contract)));
+
+        return new Expectations(providerNameToContracts);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hltech.vaunt.core;
+
+public enum SchemaLayout {
+    INLINE,
+    SHARED_DEFINITIONS;
+
+    public static final String DEFINITION_REFERENCE_PREFIX = "#/definitions/";
+}
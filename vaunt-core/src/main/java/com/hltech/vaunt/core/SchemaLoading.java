@@ -0,0 +1,6 @@
+package com.hltech.vaunt.core;
+
+public enum SchemaLoading {
+    EAGER,
+    LAZY
+}
@@ -0,0 +1,204 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ReferenceSchema;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+public final class SchemaTree {
+
+    private SchemaTree() {
+    }
+
+    public static JsonSchema copy(JsonSchema schema) {
+        return schema == null ? null : copy(schema, SchemaTree::copy);
+    }
+
+    public static JsonSchema copy(JsonSchema schema, UnaryOperator<JsonSchema> children) {
+        JsonSchema copy = shallowCopy(schema);
+
+        if (schema.getExtends() != null) {
+            copy.setExtends(copyAll(schema.getExtends(), children));
+        }
+
+        if (schema.getDisallow() != null) {
+            copy.setDisallow(copyAll(schema.getDisallow(), children));
+        }
+
+        if (schema instanceof ObjectSchema) {
+            copyChildren((ObjectSchema) schema, (ObjectSchema) copy, children);
+        } else if (schema instanceof ArraySchema) {
+            copyChildren((ArraySchema) schema, (ArraySchema) copy, children);
+        }
+
+        return copy;
+    }
+
+    public static void forEachChild(JsonSchema schema, BiConsumer<String, JsonSchema> action) {
+        visitChild("extends", schema.getExtends(), action);
+        visitChild("disallow", schema.getDisallow(), action);
+
+        if (schema instanceof ObjectSchema) {
+            ObjectSchema objectSchema = (ObjectSchema) schema;
+            visitChild("properties", objectSchema.getProperties(), action);
+            visitChild("patternProperties", objectSchema.getPatternProperties(), action);
+
+            if (objectSchema.getAdditionalProperties() instanceof ObjectSchema.SchemaAdditionalProperties) {
+                visitChild("additionalProperties", ((ObjectSchema.SchemaAdditionalProperties)
+                        objectSchema.getAdditionalProperties()).getJsonSchema(), action);
+            }
+        } else if (schema instanceof ArraySchema) {
+            ArraySchema arraySchema = (ArraySchema) schema;
+
+            if (arraySchema.getItems() instanceof ArraySchema.SingleItems) {
+                visitChild("items", ((ArraySchema.SingleItems) arraySchema.getItems()).getSchema(), action);
+            } else if (arraySchema.getItems() instanceof ArraySchema.ArrayItems) {
+                visitChild("items", ((ArraySchema.ArrayItems) arraySchema.getItems()).getJsonSchemas(), action);
+            }
+
+            if (arraySchema.getAdditionalItems() instanceof ArraySchema.SchemaAdditionalItems) {
+                visitChild("additionalItems", ((ArraySchema.SchemaAdditionalItems)
+                        arraySchema.getAdditionalItems()).getJsonSchema(), action);
+            }
+        }
+    }
+
+    private static void copyChildren(ObjectSchema schema, ObjectSchema copy, UnaryOperator<JsonSchema> children) {
+        copy.setProperties(copyAll(schema.getProperties(), children));
+        copy.setPatternProperties(copyAll(schema.getPatternProperties(), children));
+
+        if (schema.getAdditionalProperties() instanceof ObjectSchema.SchemaAdditionalProperties) {
+            JsonSchema additional =
+                    ((ObjectSchema.SchemaAdditionalProperties) schema.getAdditionalProperties()).getJsonSchema();
+            copy.setAdditionalProperties(
+                    new ObjectSchema.SchemaAdditionalProperties(copyChild(additional, children)));
+        }
+    }
+
+    private static void copyChildren(ArraySchema schema, ArraySchema copy, UnaryOperator<JsonSchema> children) {
+        if (schema.getItems() instanceof ArraySchema.SingleItems) {
+            JsonSchema items = ((ArraySchema.SingleItems) schema.getItems()).getSchema();
+            copy.setItems(new ArraySchema.SingleItems(copyChild(items, children)));
+        } else if (schema.getItems() instanceof ArraySchema.ArrayItems) {
+            JsonSchema[] items = ((ArraySchema.ArrayItems) schema.getItems()).getJsonSchemas();
+            copy.setItems(new ArraySchema.ArrayItems(copyAll(items, children)));
+        }
+
+        if (schema.getAdditionalItems() instanceof ArraySchema.SchemaAdditionalItems) {
+            JsonSchema additional = ((ArraySchema.SchemaAdditionalItems) schema.getAdditionalItems()).getJsonSchema();
+            copy.setAdditionalItems(new ArraySchema.SchemaAdditionalItems(copyChild(additional, children)));
+        }
+    }
+
+    private static JsonSchema copyChild(JsonSchema child, UnaryOperator<JsonSchema> children) {
+        return child == null ? null : children.apply(child);
+    }
+
+    private static JsonSchema[] copyAll(JsonSchema[] schemas, UnaryOperator<JsonSchema> children) {
+        if (schemas == null) {
+            return null;
+        }
+
+        JsonSchema[] copies = new JsonSchema[schemas.length];
+        for (int index = 0; index < schemas.length; index++) {
+            copies[index] = copyChild(schemas[index], children);
+        }
+        return copies;
+    }
+
+    private static Map<String, JsonSchema> copyAll(Map<String, JsonSchema> schemas,
+                                                   UnaryOperator<JsonSchema> children) {
+        if (schemas == null) {
+            return null;
+        }
+
+        Map<String, JsonSchema> copies = new LinkedHashMap<>();
+        schemas.forEach((name, schema) -> copies.put(name, copyChild(schema, children)));
+        return copies;
+    }
+
+    private static void visitChild(String slot, JsonSchema child, BiConsumer<String, JsonSchema> action) {
+        if (child != null) {
+            action.accept(slot, child);
+        }
+    }
+
+    private static void visitChild(String slot, JsonSchema[] children, BiConsumer<String, JsonSchema> action) {
+        if (children != null) {
+            for (int index = 0; index < children.length; index++) {
+                visitChild(slot + "/" + index, children[index], action);
+            }
+        }
+    }
+
+    private static void visitChild(String slot, Map<String, JsonSchema> children,
+                                   BiConsumer<String, JsonSchema> action) {
+        if (children != null) {
+            children.forEach((name, child) -> visitChild(slot + "/" + name, child, action));
+        }
+    }
+
+    private static JsonSchema shallowCopy(JsonSchema schema) {
+        try {
+            JsonSchema copy = schema instanceof ReferenceSchema
+                    ? new ReferenceSchema(schema.get$ref())
+                    : newInstance(schema.getClass());
+
+            for (Class<?> type = schema.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                        field.setAccessible(true);
+                        field.set(copy, copyValue(field.get(schema)));
+                    }
+                }
+            }
+
+            return copy;
+        } catch (ReflectiveOperationException ex) {
+            throw new VauntSerializationException("Unable to copy schema with id " + schema.getId(), ex);
+        }
+    }
+
+    private static JsonSchema newInstance(Class<? extends JsonSchema> type) throws ReflectiveOperationException {
+        Constructor<? extends JsonSchema> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Set) {
+            return new LinkedHashSet<>((Collection<?>) value);
+        }
+
+        if (value instanceof List) {
+            return new ArrayList<>((Collection<?>) value);
+        }
+
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+
+        return value;
+    }
+}
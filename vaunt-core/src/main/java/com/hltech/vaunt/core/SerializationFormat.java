@@ -0,0 +1,13 @@
+package com.hltech.vaunt.core;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SerializationFormat {
+    JSON(".json"),
+    SMILE(".smile");
+
+    private final String fileExtension;
+}
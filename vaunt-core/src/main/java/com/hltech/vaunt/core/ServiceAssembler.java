@@ -0,0 +1,48 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import com.hltech.vaunt.core.domain.model.Capabilities;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.Expectations;
+import com.hltech.vaunt.core.domain.model.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class ServiceAssembler implements ServiceDefinitionHandler {
+
+    private final Map<String, JsonSchema> definitions = new TreeMap<>();
+    private final List<Contract> capabilities = new ArrayList<>();
+    private final Multimap<String, Contract> providerNameToContracts = ArrayListMultimap.create();
+    private String name;
+
+    @Override
+    public void onName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void onDefinition(String name, JsonSchema schema) {
+        definitions.put(name, schema);
+    }
+
+    @Override
+    public void onCapability(Contract contract) {
+        capabilities.add(contract);
+    }
+
+    @Override
+    public void onExpectation(String providerName, Contract contract) {
+        providerNameToContracts.put(providerName, contract);
+    }
+
+    Service toService() {
+        Service service = new Service(name, new Capabilities(capabilities), new Expectations(providerNameToContracts));
+        service.getDefinitions().putAll(definitions);
+        return service;
+    }
+}
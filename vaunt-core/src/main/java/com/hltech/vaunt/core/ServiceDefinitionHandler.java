@@ -0,0 +1,17 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.core.domain.model.Contract;
+
+public interface ServiceDefinitionHandler {
+
+    default void onName(String name) {
+    }
+
+    default void onDefinition(String name, JsonSchema schema) {
+    }
+
+    void onCapability(Contract contract);
+
+    void onExpectation(String providerName, Contract contract);
+}
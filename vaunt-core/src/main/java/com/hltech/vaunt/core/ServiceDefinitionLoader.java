@@ -0,0 +1,80 @@
+package com.hltech.vaunt.core;
+
+import com.hltech.vaunt.core.domain.model.Service;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ServiceDefinitionLoader {
+
+    private static final String DEFAULT_GLOB = "*.{json,smile}";
+
+    private final VauntSerializer serializer;
+    private final Executor executor;
+    private final SchemaLoading loading;
+
+    public ServiceDefinitionLoader() {
+        this(new VauntSerializer(), ForkJoinPool.commonPool());
+    }
+
+    public ServiceDefinitionLoader(VauntSerializer serializer, Executor executor) {
+        this(serializer, executor, SchemaLoading.EAGER);
+    }
+
+    public LoadedServices load(Path directory) {
+        return load(directory, DEFAULT_GLOB);
+    }
+
+    public LoadedServices load(Path directory, String glob) {
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+
+        Map<Path, CompletableFuture<Service>> pathToService = new LinkedHashMap<>();
+        findFiles(directory, matcher).forEach(path -> pathToService.put(
+                path, CompletableFuture.supplyAsync(() -> serializer.readServiceDefinition(path, loading), executor)));
+
+        Map<Path, Service> services = new LinkedHashMap<>();
+        Map<Path, VauntSerializationException> failures = new LinkedHashMap<>();
+        pathToService.forEach((path, service) -> {
+            try {
+                services.put(path, service.join());
+            } catch (CompletionException ex) {
+                failures.put(path, failure(path, ex.getCause()));
+            }
+        });
+
+        return new LoadedServices(services, failures);
+    }
+
+    private List<Path> findFiles(Path directory, PathMatcher matcher) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(directory.relativize(path)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during listing service definitions in directory: "
+                    + directory.toAbsolutePath(), ex);
+        }
+    }
+
+    private VauntSerializationException failure(Path path, Throwable cause) {
+        return cause instanceof VauntSerializationException
+                ? (VauntSerializationException) cause
+                : new VauntSerializationException("Error during reading service definition from file: "
+                        + path.toAbsolutePath(), cause);
+    }
+}
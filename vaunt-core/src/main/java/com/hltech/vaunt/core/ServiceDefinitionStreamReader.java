@@ -0,0 +1,249 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
+import com.fasterxml.jackson.core.format.DataFormatMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+class ServiceDefinitionStreamReader {
+
+    private final ObjectMapper mapper;
+    private final DataFormatDetector formatDetector;
+
+    void read(File file, ServiceDefinitionHandler handler) throws IOException {
+        read(file, handler, SchemaLoading.EAGER);
+    }
+
+    void read(File file, ServiceDefinitionHandler handler, SchemaLoading loading) throws IOException {
+        read(file.toPath(), handler, loading);
+    }
+
+    void read(Path path, ServiceDefinitionHandler handler, SchemaLoading loading) throws IOException {
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size <= Integer.MAX_VALUE) {
+                    read(new ByteBufferBackedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)),
+                            handler, loading);
+                    return;
+                }
+            }
+        }
+
+        try (InputStream stream = Files.newInputStream(path)) {
+            read(stream, handler, loading);
+        }
+    }
+
+    void read(InputStream stream, ServiceDefinitionHandler handler) throws IOException {
+        read(stream, handler, SchemaLoading.EAGER);
+    }
+
+    void read(InputStream stream, ServiceDefinitionHandler handler, SchemaLoading loading) throws IOException {
+        try (JsonParser parser = createParser(stream)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (field) {
+                    case "name":
+                        handler.onName(parser.getValueAsString());
+                        break;
+                    case "definitions":
+                        readDefinitions(parser, handler);
+                        break;
+                    case "capabilities":
+                        readCapabilities(parser, handler, loading);
+                        break;
+                    case "expectations":
+                        readExpectations(parser, handler, loading);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private JsonParser createParser(InputStream stream) throws IOException {
+        DataFormatMatcher match = formatDetector.findFormat(stream);
+        if (!match.hasMatch()) {
+            throw new JsonParseException(null, "Unable to detect format of service definition");
+        }
+        return match.createParserWithMatch();
+    }
+
+    private void readDefinitions(JsonParser parser, ServiceDefinitionHandler handler) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            handler.onDefinition(name, mapper.readValue(parser, JsonSchema.class));
+        }
+    }
+
+    private void readCapabilities(JsonParser parser, ServiceDefinitionHandler handler, SchemaLoading loading)
+            throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            if (field.equals("contracts")) {
+                readContracts(parser, loading, handler::onCapability);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readExpectations(JsonParser parser, ServiceDefinitionHandler handler, SchemaLoading loading)
+            throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            if (field.equals("providerNameToContracts")) {
+                readProviderNameToContracts(parser, handler, loading);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readProviderNameToContracts(JsonParser parser, ServiceDefinitionHandler handler,
+                                             SchemaLoading loading) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String providerName = parser.getCurrentName();
+            parser.nextToken();
+            readContracts(parser, loading, contract -> handler.onExpectation(providerName, contract));
+        }
+    }
+
+    private void readContracts(JsonParser parser, SchemaLoading loading, Consumer<Contract> consumer)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            consumer.accept(loading == SchemaLoading.LAZY
+                    ? readLazyContract(parser)
+                    : mapper.readValue(parser, Contract.class));
+        }
+
+        expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+    }
+
+    private Contract readLazyContract(JsonParser parser) throws IOException {
+        DestinationType destinationType = null;
+        String destinationName = null;
+        String messageId = null;
+        byte[] message = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "destinationType":
+                    destinationType = mapper.readValue(parser, DestinationType.class);
+                    break;
+                case "destinationName":
+                    destinationName = parser.getValueAsString();
+                    break;
+                case "message":
+                    ByteArrayOutputStream messageBytes = new ByteArrayOutputStream();
+                    try (JsonGenerator generator = mapper.getFactory().createGenerator(messageBytes)) {
+                        messageId = copyMessage(parser, generator);
+                    }
+                    message = messageBytes.toByteArray();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return new Contract(destinationType, destinationName, messageId,
+                message == null ? null : lazyMessage(message));
+    }
+
+    private String copyMessage(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            generator.copyCurrentStructure(parser);
+            return null;
+        }
+
+        String messageId = null;
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            generator.writeFieldName(field);
+
+            if (parser.nextToken() == JsonToken.VALUE_STRING && field.equals("id")) {
+                messageId = parser.getText();
+            }
+            generator.copyCurrentStructure(parser);
+        }
+        generator.writeEndObject();
+
+        return messageId;
+    }
+
+    private Supplier<JsonSchema> lazyMessage(byte[] message) {
+        return () -> {
+            try {
+                return mapper.readValue(message, JsonSchema.class);
+            } catch (IOException ex) {
+                throw new VauntSerializationException("Error during reading contract message schema", ex);
+            }
+        };
+    }
+
+    private void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but was " + actual);
+        }
+    }
+}
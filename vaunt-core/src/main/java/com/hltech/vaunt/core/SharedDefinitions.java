@@ -0,0 +1,124 @@
+package com.hltech.vaunt.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+class SharedDefinitions {
+
+    private static final String NAME = "name";
+    private static final String DEFINITIONS = "definitions";
+    private static final String PROPERTIES = "properties";
+    private static final String TYPE = "type";
+    private static final String OBJECT = "object";
+    private static final String ID = "id";
+
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Map<String, List<ObjectNode>> idToSchemas = new HashMap<>();
+    private final Map<String, JsonNode> definitions = new TreeMap<>();
+    private Set<String> sharedIds;
+
+    ObjectNode share(ObjectNode service) {
+        List<ObjectNode> messages = messages(service);
+        messages.forEach(this::collectChildren);
+
+        sharedIds = idToSchemas.entrySet().stream()
+                .filter(entry -> isShared(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        messages.forEach(this::replaceChildren);
+        service.path(DEFINITIONS).fields().forEachRemaining(entry -> definitions.put(entry.getKey(), entry.getValue()));
+        sharedIds.forEach(id -> {
+            ObjectNode definition = idToSchemas.get(id).get(0);
+            replaceChildren(definition);
+            definitions.put(id, definition);
+        });
+
+        return withDefinitions(service);
+    }
+
+    private List<ObjectNode> messages(ObjectNode service) {
+        List<JsonNode> contracts = new ArrayList<>();
+        service.path("capabilities").path("contracts").forEach(contracts::add);
+        for (JsonNode providerContracts : service.path("expectations").path("providerNameToContracts")) {
+            providerContracts.forEach(contracts::add);
+        }
+
+        return contracts.stream()
+                .map(contract -> contract.path("message"))
+                .filter(JsonNode::isObject)
+                .map(ObjectNode.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    private void collectChildren(JsonNode schema) {
+        for (JsonNode property : schema.path(PROPERTIES)) {
+            if (isObjectSchema(property)) {
+                idToSchemas.computeIfAbsent(property.get(ID).asText(), id -> new ArrayList<>())
+                        .add((ObjectNode) property);
+                collectChildren(property);
+            }
+        }
+    }
+
+    private boolean isObjectSchema(JsonNode node) {
+        return node.isObject()
+                && node.path(TYPE).asText().equals(OBJECT)
+                && node.path(ID).isTextual()
+                && node.path(PROPERTIES).isObject();
+    }
+
+    private boolean isShared(List<ObjectNode> schemas) {
+        return schemas.size() > 1 && schemas.stream().allMatch(schemas.get(0)::equals);
+    }
+
+    private void replaceChildren(JsonNode schema) {
+        Iterator<Map.Entry<String, JsonNode>> properties = schema.path(PROPERTIES).fields();
+        while (properties.hasNext()) {
+            Map.Entry<String, JsonNode> property = properties.next();
+            property.setValue(replace(property.getValue()));
+        }
+    }
+
+    private JsonNode replace(JsonNode property) {
+        if (!isObjectSchema(property)) {
+            return property;
+        }
+
+        String id = property.get(ID).asText();
+        if (sharedIds.contains(id)) {
+            return nodeFactory.objectNode()
+                    .put(TYPE, OBJECT)
+                    .put("$ref", SchemaLayout.DEFINITION_REFERENCE_PREFIX + id);
+        }
+
+        replaceChildren(property);
+        return property;
+    }
+
+    private ObjectNode withDefinitions(ObjectNode service) {
+        ObjectNode result = nodeFactory.objectNode();
+        result.set(NAME, service.get(NAME));
+        if (!definitions.isEmpty()) {
+            result.putObject(DEFINITIONS).setAll(definitions);
+        }
+
+        service.fields().forEachRemaining(field -> {
+            if (!field.getKey().equals(NAME) && !field.getKey().equals(DEFINITIONS)) {
+                result.set(field.getKey(), field.getValue());
+            }
+        });
+
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hltech.vaunt.core;
+
+import com.google.common.cache.CacheStats;
+
+public interface VauntListener {
+
+    VauntListener NO_OP = new VauntListener() {
+        @Override
+        public long nanoTime() {
+            return 0;
+        }
+    };
+
+    default long nanoTime() {
+        return System.nanoTime();
+    }
+
+    default void onPhase(VauntPhase phase, int contractCount, long durationNanos) {
+    }
+
+    default void onSchemaValidation(Class<?> schemaType, long durationNanos) {
+    }
+
+    default void onCacheStats(String cacheName, CacheStats stats) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.hltech.vaunt.core;
+
+public enum VauntPhase {
+    SCAN,
+    SCHEMA_GENERATION,
+    WRITE,
+    CAPABILITIES_INDEXING,
+    CONTRACT_LOOKUP,
+    SCHEMA_COMPARISON
+}
@@ -1,10 +1,18 @@
 package com.hltech.vaunt.core;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.format.DataFormatDetector;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
@@ -17,27 +25,33 @@ import com.hltech.vaunt.core.domain.model.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class VauntSerializer {
 
     private final ObjectMapper mapper;
-    private final SchemaFactoryWrapper wrapper;
-    private final JsonSchemaGenerator generator;
+    private final ObjectMapper smileMapper;
+    private final ObjectReader serviceReader;
+    private final ServiceDefinitionStreamReader streamReader;
 
     public VauntSerializer() {
-        mapper = new ObjectMapper();
-        mapper.registerModule(new GuavaModule());
-        mapper.registerModule(new JavaTimeModule());
-
-        wrapper = new ValidationSchemaFactoryWrapper();
-        generator = new JsonSchemaGenerator(mapper, wrapper);
+        mapper = createMapper(new JsonFactory());
+        smileMapper = createMapper(new SmileFactory());
+        serviceReader = mapper.readerFor(Service.class)
+                .withFormatDetection(mapper.readerFor(Service.class), smileMapper.readerFor(Service.class));
+        streamReader = new ServiceDefinitionStreamReader(
+                mapper, new DataFormatDetector(mapper.getFactory(), smileMapper.getFactory()));
     }
 
     public JsonSchema generateSchema(Class<?> type) throws JsonMappingException {
+        SchemaFactoryWrapper wrapper = new ValidationSchemaFactoryWrapper();
         wrapper.setVisitorContext(new VauntVisitorContext());
-        return generator.generateSchema(type);
+        return new JsonSchemaGenerator(mapper, wrapper).generateSchema(type);
     }
 
     public String serialize(Object object) {
@@ -51,13 +65,62 @@ public class VauntSerializer {
 
     public Service readServiceDefinition(File file) {
         try {
-            return mapper.readValue(file, Service.class);
+            return serviceReader.readValue(file);
         } catch (IOException ex) {
             throw new VauntSerializationException("Error during reading service definition from file: "
                     + file.getAbsolutePath(), ex);
         }
     }
 
+    public Service readServiceDefinition(Path path) {
+        try {
+            return serviceReader.readValue(Files.readAllBytes(path));
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during reading service definition from file: "
+                    + path.toAbsolutePath(), ex);
+        }
+    }
+
+    public Service readServiceDefinition(Path path, SchemaLoading loading) {
+        if (loading == SchemaLoading.EAGER) {
+            return readServiceDefinition(path);
+        }
+
+        ServiceAssembler assembler = new ServiceAssembler();
+        readServiceDefinition(path, assembler, loading);
+        return assembler.toService();
+    }
+
+    public void readServiceDefinition(Path path, ServiceDefinitionHandler handler, SchemaLoading loading) {
+        try {
+            streamReader.read(path, handler, loading);
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during reading service definition from file: "
+                    + path.toAbsolutePath(), ex);
+        }
+    }
+
+    public void readServiceDefinition(File file, ServiceDefinitionHandler handler) {
+        readServiceDefinition(file, handler, SchemaLoading.EAGER);
+    }
+
+    public void readServiceDefinition(File file, ServiceDefinitionHandler handler, SchemaLoading loading) {
+        try {
+            streamReader.read(file, handler, loading);
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during reading service definition from file: "
+                    + file.getAbsolutePath(), ex);
+        }
+    }
+
+    public void readServiceDefinition(InputStream stream, ServiceDefinitionHandler handler) {
+        try {
+            streamReader.read(stream, handler);
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during reading service definition from stream", ex);
+        }
+    }
+
     public List<Contract> parseContracts(String contracts) {
         try {
             return mapper.readValue(contracts, new TypeReference<List<Contract>>(){});
@@ -66,6 +129,50 @@ public class VauntSerializer {
         }
     }
 
+    public MappingIterator<Contract> parseContracts(InputStream contracts) {
+        try {
+            return mapper.readerFor(Contract.class).readValues(contracts);
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during parsing contracts", ex);
+        }
+    }
+
+    public void parseContracts(InputStream contracts, Consumer<Contract> consumer) {
+        try (MappingIterator<Contract> iterator = parseContracts(contracts)) {
+            iterator.forEachRemaining(consumer);
+        } catch (IOException | RuntimeJsonMappingException ex) {
+            throw new VauntSerializationException("Error during parsing contracts", ex);
+        }
+    }
+
+    public byte[] serializeToBytes(Object value) {
+        return serializeToBytes(value, SerializationFormat.JSON);
+    }
+
+    public byte[] serializeToBytes(Object value, SerializationFormat format) {
+        try {
+            return (format == SerializationFormat.SMILE ? smileMapper : mapper).writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new VauntSerializationException("Error during serialization of class: "
+                    + value.getClass().getName(), ex);
+        }
+    }
+
+    public byte[] serializeToBytes(Service service, SerializationFormat format, SchemaLayout layout) {
+        if (layout == SchemaLayout.INLINE) {
+            return serializeToBytes(service, format);
+        }
+
+        try {
+            ObjectNode tree = (ObjectNode) mapper.readTree(serializeToBytes(service, SerializationFormat.JSON));
+            return serializeToBytes(new SharedDefinitions().share(tree), format);
+        } catch (IOException ex) {
+            throw new VauntSerializationException("Error during serialization of service: " + service.getName(), ex);
+        }
+    }
+
     public void serializeToFile(File resultFile, Object value) {
         try {
             mapper.writeValue(resultFile, value);
@@ -74,6 +181,13 @@ public class VauntSerializer {
         }
     }
 
+    private static ObjectMapper createMapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new GuavaModule());
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+
     class VauntVisitorContext extends VisitorContext {
 
         private final HashSet<JavaType> seenSchemas = new HashSet<>();
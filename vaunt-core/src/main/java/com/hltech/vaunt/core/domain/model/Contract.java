@@ -1,19 +1,104 @@
 package com.hltech.vaunt.core.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
 
-@Data
+import java.util.Objects;
+import java.util.function.Supplier;
+
+@Getter
 public class Contract {
     private final DestinationType destinationType;
     private final String destinationName;
-    private final JsonSchema message;
+
+    private volatile JsonSchema message;
+
+    private final String messageId;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Supplier<JsonSchema> messageSource;
+
+    @JsonCreator
+    public Contract(@JsonProperty("destinationType") DestinationType destinationType,
+                    @JsonProperty("destinationName") String destinationName,
+                    @JsonProperty("message") JsonSchema message) {
+        this(destinationType, destinationName, message, null, null);
+    }
+
+    public Contract(DestinationType destinationType, String destinationName,
+                    String messageId, Supplier<JsonSchema> messageSource) {
+        this(destinationType, destinationName, null, messageId, messageSource);
+    }
+
+    private Contract(DestinationType destinationType, String destinationName, JsonSchema message,
+                     String messageId, Supplier<JsonSchema> messageSource) {
+        this.destinationType = destinationType;
+        this.destinationName = destinationName;
+        this.message = message;
+        this.messageId = messageId;
+        this.messageSource = messageSource;
+    }
+
+    public JsonSchema getMessage() {
+        if (messageSource != null) {
+            synchronized (this) {
+                if (messageSource != null) {
+                    message = messageSource.get();
+                    messageSource = null;
+                }
+            }
+        }
+        return message;
+    }
+
+    @JsonIgnore
+    public String getMessageId() {
+        if (!isMessageLoaded()) {
+            return messageId;
+        }
+        return message == null ? null : message.getId();
+    }
+
+    @JsonIgnore
+    public boolean isMessageLoaded() {
+        return messageSource == null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Contract)) {
+            return false;
+        }
+
+        Contract contract = (Contract) other;
+        if (destinationType != contract.destinationType
+                || !Objects.equals(destinationName, contract.destinationName)
+                || !Objects.equals(getMessageId(), contract.getMessageId())) {
+            return false;
+        }
+
+        Supplier<JsonSchema> source = messageSource;
+        return source != null && source == contract.messageSource
+                || Objects.equals(getMessage(), contract.getMessage());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(destinationType, destinationName, getMessageId());
+    }
 
     @Override
     public String toString() {
         return "Contract(destinationType = " + destinationType.toString()
                 + ", destinationName = \"" + destinationName + "\""
-                + ", messageId = \"" + message.getId() + "\""
+                + ", messageId = \"" + getMessageId() + "\""
                 + ")";
     }
 }
@@ -1,11 +1,21 @@
 package com.hltech.vaunt.core.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import lombok.Data;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 @Data
+@JsonPropertyOrder({"name", "definitions", "capabilities", "expectations"})
 public class Service {
 
     private final String name;
     private final Capabilities capabilities;
     private final Expectations expectations;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, JsonSchema> definitions = new TreeMap<>();
 }
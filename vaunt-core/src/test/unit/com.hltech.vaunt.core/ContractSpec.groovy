@@ -0,0 +1,35 @@
+package com.hltech.vaunt.core
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.domain.model.Contract
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+
+class ContractSpec extends Specification {
+
+    def 'Should compare and hash lazily read contracts without loading their messages'() {
+        given:
+            def source = Mock(Supplier)
+            def contract = new Contract(QUEUE, 'queue', 'message', source)
+
+        expect:
+            contract == new Contract(QUEUE, 'queue', 'message', source)
+            contract != new Contract(QUEUE, 'queue', 'other', Mock(Supplier))
+            contract.hashCode() == new Contract(QUEUE, 'queue', new StringSchema(id: 'message')).hashCode()
+            !contract.messageLoaded
+    }
+
+    def 'Should compare messages of contracts read differently'() {
+        given:
+            def lazy = new Contract(QUEUE, 'queue', 'message', { new StringSchema(id: 'message') } as Supplier<JsonSchema>)
+
+        expect:
+            lazy == new Contract(QUEUE, 'queue', new StringSchema(id: 'message'))
+            lazy != new Contract(QUEUE, 'queue', new StringSchema(id: 'message', minLength: 1))
+            lazy.messageLoaded
+    }
+}
@@ -0,0 +1,69 @@
+package com.hltech.vaunt.core
+
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.MapMaker
+import spock.lang.Specification
+
+class SchemaFingerprinterSpec extends Specification {
+
+    def 'Should fingerprint structurally identical schemas alike'() {
+        expect:
+            new SchemaFingerprinter().fingerprint(message(['street', 'number'], 1)) ==
+                    new SchemaFingerprinter().fingerprint(message(['number', 'street'], 1))
+    }
+
+    def 'Should tell apart schemas differing in nested keyword, id or type'() {
+        given:
+            def fingerprinter = new SchemaFingerprinter()
+            def fingerprint = fingerprinter.fingerprint(message(['street'], 1))
+
+        expect:
+            fingerprinter.fingerprint(message(['street'], 2)) != fingerprint
+            fingerprinter.fingerprint(message(['avenue'], 1)) != fingerprint
+            fingerprinter.fingerprint(new StringSchema(id: 'a')) != fingerprinter.fingerprint(new IntegerSchema(id: 'a'))
+            fingerprinter.fingerprint(new StringSchema(enums: ['a', 'b'] as Set)) ==
+                    fingerprinter.fingerprint(new StringSchema(enums: ['b', 'a'] as Set))
+            fingerprinter.fingerprint(new StringSchema(enums: ['a'] as Set)) !=
+                    fingerprinter.fingerprint(new StringSchema(enums: ['b'] as Set))
+    }
+
+    def 'Should reuse fingerprints kept in shared storage'() {
+        given:
+            def fingerprints = new MapMaker().weakKeys().makeMap()
+            def schema = message(['street'], 1)
+            def fingerprint = new SchemaFingerprinter(fingerprints).fingerprint(schema)
+
+        when:
+            schema.properties.lines.items.schema.minLength = 5
+
+        then:
+            fingerprints.size() == 5
+            new SchemaFingerprinter(fingerprints).fingerprint(schema) == fingerprint
+            new SchemaFingerprinter().fingerprint(schema) != fingerprint
+    }
+
+    def 'Should fingerprint cyclic schemas'() {
+        given:
+            def node = new ObjectSchema(id: 'node')
+            node.putOptionalProperty('next', node)
+
+        expect:
+            new SchemaFingerprinter().fingerprint(node) != null
+    }
+
+    private static ObjectSchema message(List<String> properties, int minLength) {
+        def address = new ObjectSchema(id: 'Address')
+        properties.each { address.putOptionalProperty(it, new StringSchema()) }
+
+        def lines = new ArraySchema()
+        lines.setItemsSchema(new StringSchema(minLength: minLength))
+
+        def message = new ObjectSchema(id: 'Message')
+        message.putOptionalProperty('address', address)
+        message.putOptionalProperty('lines', lines)
+        message
+    }
+}
@@ -0,0 +1,112 @@
+package com.hltech.vaunt.core
+
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+
+class SchemaInternerSpec extends Specification {
+
+    @Subject
+    def interner = new SchemaInterner()
+
+    def serializer = new VauntSerializer()
+
+    def 'Should share identical subtrees between separately loaded schemas'() {
+        given:
+            def first = reload(message('OrderPlaced', 'Address'))
+            def second = reload(message('OrderShipped', 'Address'))
+
+        when:
+            def internedFirst = interner.intern(first)
+            def internedSecond = interner.intern(second)
+
+        then:
+            !internedFirst.is(internedSecond)
+            internedFirst.properties.address.is(internedSecond.properties.address)
+            internedFirst.properties.lines.is(internedSecond.properties.lines)
+            internedFirst.properties.lines.items.schema.is(internedFirst.properties.address.properties.street)
+    }
+
+    def 'Should return canonical instance for structurally identical schema'() {
+        given:
+            def canonical = interner.intern(reload(message('OrderPlaced', 'Address')))
+
+        expect:
+            interner.intern(reload(message('OrderPlaced', 'Address'))).is(canonical)
+            interner.intern(canonical).is(canonical)
+    }
+
+    def 'Should keep schemas differing only by id apart'() {
+        when:
+            def first = interner.intern(reload(message('OrderPlaced', 'Address')))
+            def second = interner.intern(reload(message('OrderPlaced', 'PostalAddress')))
+
+        then:
+            !first.properties.address.is(second.properties.address)
+            first.properties.address.id == 'Address'
+            second.properties.address.id == 'PostalAddress'
+    }
+
+    def 'Should leave interned schema untouched'() {
+        given:
+            def first = reload(message('OrderPlaced', 'Address'))
+            def second = reload(message('OrderShipped', 'Address'))
+            def secondAddress = second.properties.address
+            def secondLines = second.properties.lines.items
+
+        when:
+            interner.intern(first)
+            def interned = interner.intern(second)
+
+        then:
+            second.properties.address.is(secondAddress)
+            second.properties.lines.items.is(secondLines)
+            !interned.properties.address.is(secondAddress)
+            interned == second
+    }
+
+    def 'Should intern every contract of service'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(DestinationType.QUEUE, 'queue', reload(message('OrderPlaced', 'Address'))))
+            def service = new Service(
+                    'service',
+                    new Capabilities([new Contract(DestinationType.TOPIC, 'topic', reload(message('OrderPlaced', 'Address')))]),
+                    new Expectations(expectations))
+
+        when:
+            def interned = interner.intern(service)
+
+        then:
+            interned == service
+            interned.capabilities.contracts[0].message.is(interned.expectations.providerNameToContracts.get('provider')[0].message)
+    }
+
+    private ObjectSchema message(String id, String addressId) {
+        def address = new ObjectSchema(id: addressId)
+        address.putOptionalProperty('street', new StringSchema())
+        address.putOptionalProperty('number', new IntegerSchema())
+
+        def lines = new ArraySchema()
+        lines.setItemsSchema(new StringSchema())
+
+        def message = new ObjectSchema(id: id)
+        message.putOptionalProperty('address', address)
+        message.putOptionalProperty('lines', lines)
+        message
+    }
+
+    private ObjectSchema reload(ObjectSchema schema) {
+        def contract = new Contract(DestinationType.QUEUE, 'queue', schema)
+        serializer.parseContracts(serializer.serialize([contract]))[0].message as ObjectSchema
+    }
+}
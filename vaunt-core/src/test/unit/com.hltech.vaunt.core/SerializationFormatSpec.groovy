@@ -0,0 +1,70 @@
+package com.hltech.vaunt.core
+
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.validation.constraints.Size
+import java.time.ZonedDateTime
+
+class SerializationFormatSpec extends Specification {
+
+    private static final int CONTRACTS = 200
+
+    @Shared
+    def serializer = new VauntSerializer()
+
+    @Shared
+    def service = largeService()
+
+    def 'Smile representation should be smaller than json and parse to the same model'() {
+        given:
+            def json = file(SerializationFormat.JSON)
+            def smile = file(SerializationFormat.SMILE)
+
+        expect:
+            serializer.readServiceDefinition(json) == serializer.readServiceDefinition(smile)
+            serializer.readServiceDefinition(smile) == service
+            smile.length() < json.length()
+    }
+
+    private File file(SerializationFormat format) {
+        def file = File.createTempFile('benchmark', format.fileExtension)
+        file.deleteOnExit()
+        file.bytes = serializer.serializeToBytes(service, format)
+        file
+    }
+
+    private Service largeService() {
+        def capabilities = (1..CONTRACTS).collect { i ->
+            new Contract(DestinationType.QUEUE, "queue_$i".toString(), serializer.generateSchema(BenchmarkMessage))
+        }
+
+        def expectations = ArrayListMultimap.create()
+        (1..CONTRACTS).each { i ->
+            expectations.put("provider_${i % 10}".toString(), new Contract(DestinationType.TOPIC, "topic_$i".toString(), serializer.generateSchema(BenchmarkMessage)))
+        }
+
+        new Service('benchmark-service', new Capabilities(capabilities), new Expectations(expectations))
+    }
+
+    class BenchmarkMessage {
+        @Size(min = 1, max = 64)
+        String name
+        ZonedDateTime createdAt
+        List<String> tags
+        Map<String, Long> counters
+        BenchmarkDetails details
+    }
+
+    class BenchmarkDetails {
+        String description
+        boolean active
+        double amount
+    }
+}
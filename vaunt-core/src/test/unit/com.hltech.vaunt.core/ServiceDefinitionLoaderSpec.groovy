@@ -0,0 +1,116 @@
+package com.hltech.vaunt.core
+
+import com.fasterxml.jackson.module.jsonSchema.types.BooleanSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Executors
+
+class ServiceDefinitionLoaderSpec extends Specification {
+
+    def serializer = new VauntSerializer()
+
+    def pool = Executors.newFixedThreadPool(4)
+
+    @Subject
+    def loader = new ServiceDefinitionLoader(serializer, pool)
+
+    Path directory = Files.createTempDirectory('vaunt')
+
+    def cleanup() {
+        pool.shutdown()
+        directory.toFile().deleteDir()
+    }
+
+    def 'Should load service definitions written in any format from directory in path order'() {
+        given:
+            (1..20).each { write("service-$it${SerializationFormat.SMILE.fileExtension}", service("service-$it"), SerializationFormat.SMILE) }
+            write('consumer.json', service('consumer'), SerializationFormat.JSON)
+            Files.write(directory.resolve('notes.txt'), 'not a service'.bytes)
+
+        when:
+            def loaded = loader.load(directory)
+
+        then:
+            !loaded.hasFailures()
+            loaded.services.size() == 21
+            loaded.services*.name == ['consumer'] + (1..20).collect { "service-$it".toString() }.sort()
+            loaded.services[0] == service('consumer')
+    }
+
+    def 'Should report malformed files individually and load the remaining ones'() {
+        given:
+            write('consumer.json', service('consumer'), SerializationFormat.JSON)
+            Files.write(directory.resolve('broken.json'), '{"name":"broken","capabilities":'.bytes)
+            Files.write(directory.resolve('empty.json'), new byte[0])
+
+        when:
+            def loaded = loader.load(directory)
+
+        then:
+            loaded.services*.name == ['consumer']
+            loaded.hasFailures()
+            loaded.failures.keySet() == [directory.resolve('broken.json'), directory.resolve('empty.json')] as Set
+            loaded.failures.values().every { it.message.startsWith('Error during reading service definition from file') }
+    }
+
+    def 'Should load service definitions matching glob in nested directories'() {
+        given:
+            Files.createDirectories(directory.resolve('team-a'))
+            Files.createDirectories(directory.resolve('team-b'))
+            write('team-a/consumer.json', service('consumer'), SerializationFormat.JSON)
+            write('team-b/provider.json', service('provider'), SerializationFormat.JSON)
+            write('root.json', service('root'), SerializationFormat.JSON)
+
+        expect:
+            loader.load(directory, '*/*.json').services*.name == ['consumer', 'provider']
+    }
+
+    def 'Should load service definitions with contract messages parsed on first access'() {
+        given:
+            write('consumer.json', service('consumer'), SerializationFormat.JSON)
+            write('provider.smile', service('provider'), SerializationFormat.SMILE)
+
+        when:
+            def loaded = new ServiceDefinitionLoader(serializer, pool, SchemaLoading.LAZY).load(directory)
+
+        then:
+            def contracts = loaded.services.collectMany {
+                it.capabilities.contracts + it.expectations.providerNameToContracts.values()
+            }
+            contracts*.messageId == ['event', 'message', 'event', 'message']
+            contracts.every { !it.messageLoaded }
+            loaded.services == [service('consumer'), service('provider')]
+    }
+
+    def 'Should throw exception when directory cannot be listed'() {
+        when:
+            loader.load(directory.resolve('missing'))
+
+        then:
+            thrown(VauntSerializationException)
+    }
+
+    private void write(String fileName, Service service, SerializationFormat format) {
+        Files.write(directory.resolve(fileName), serializer.serializeToBytes(service, format))
+    }
+
+    private static Service service(String name) {
+        def expectations = ArrayListMultimap.create()
+        expectations.put('provider', new Contract(DestinationType.QUEUE, 'expected', new StringSchema(id: 'message')))
+
+        new Service(
+                name,
+                new Capabilities([new Contract(DestinationType.TOPIC, 'capable', new BooleanSchema(id: 'event'))]),
+                new Expectations(expectations))
+    }
+}
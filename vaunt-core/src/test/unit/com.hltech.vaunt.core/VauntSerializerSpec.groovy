@@ -8,16 +8,25 @@ import com.fasterxml.jackson.module.jsonSchema.types.NumberSchema
 import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
 import com.fasterxml.jackson.module.jsonSchema.types.ReferenceSchema
 import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
 import com.google.common.collect.Multimap
 import com.google.common.collect.Sets
+import com.hltech.vaunt.core.domain.model.Capabilities
 import com.hltech.vaunt.core.domain.model.Contract
 import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
 import groovy.json.JsonSlurper
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.Unroll
 
 import javax.validation.constraints.Size
+import java.nio.file.FileSystems
+import java.nio.file.Files
 import java.time.ZonedDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 
 class VauntSerializerSpec extends Specification {
 
@@ -42,6 +51,35 @@ class VauntSerializerSpec extends Specification {
             new JsonSlurper().parseText(serializer.serialize(serializer.generateSchema(AnotherMessage))) == new JsonSlurper().parseText(expectedAnotherResponse())
     }
 
+    def 'Should correctly generate schemas concurrently'() {
+        given:
+            def executor = Executors.newFixedThreadPool(4)
+
+        when:
+            def schemas = (1..32)
+                    .collect { i -> executor.submit({ serializer.generateSchema(i % 2 == 0 ? Message : AnotherMessage) } as Callable) }
+                    .collect { it.get() }
+
+        then:
+            schemas.every { it == serializer.generateSchema(it.id == 'Message' ? Message : AnotherMessage) }
+            new JsonSlurper().parseText(serializer.serialize(schemas.find { it.id == 'AnotherMessage' })) == new JsonSlurper().parseText(expectedAnotherResponse())
+
+        cleanup:
+            executor.shutdown()
+    }
+
+    def 'Should serialize to bytes with map entries ordered by keys'() {
+        given:
+            def unordered = new LinkedHashMap()
+            unordered.put('b', 2)
+            unordered.put('c', 3)
+            unordered.put('a', 1)
+
+        expect:
+            new String(serializer.serializeToBytes(unordered), 'UTF-8') == '{"a":1,"b":2,"c":3}'
+            new JsonSlurper().parse(serializer.serializeToBytes(schema())) == new JsonSlurper().parseText(expectedResponse())
+    }
+
     def 'Should correctly parse contracts'() {
         given:
             def dstType = DestinationType.QUEUE
@@ -62,6 +100,261 @@ class VauntSerializerSpec extends Specification {
             serializer.parseContracts(contract) == [new Contract(dstType, dstName, new StringSchema())]
     }
 
+    def 'Should stream contracts one by one from input stream'() {
+        given:
+            def contracts = [
+                    new Contract(DestinationType.QUEUE, 'first', new StringSchema()),
+                    new Contract(DestinationType.TOPIC, 'second', new BooleanSchema())
+            ]
+            def stream = new ByteArrayInputStream(serializer.serializeToBytes(contracts))
+
+        when:
+            def iterator = serializer.parseContracts(stream)
+
+        then:
+            iterator.next() == contracts[0]
+            iterator.next() == contracts[1]
+            !iterator.hasNext()
+    }
+
+    def 'Should stream contracts to callback'() {
+        given:
+            def contracts = [
+                    new Contract(DestinationType.QUEUE, 'first', new StringSchema()),
+                    new Contract(DestinationType.TOPIC, 'second', new BooleanSchema())
+            ]
+            def received = []
+
+        when:
+            serializer.parseContracts(new ByteArrayInputStream(serializer.serializeToBytes(contracts)), { received << it })
+
+        then:
+            received == contracts
+    }
+
+    def 'Should stream service definition from memory mapped file'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(DestinationType.QUEUE, 'expected', new StringSchema()))
+            expectations.put('another-provider', new Contract(DestinationType.TOPIC, 'other', new IntegerSchema()))
+            def service = new Service(
+                    'service',
+                    new Capabilities([new Contract(DestinationType.QUEUE, 'capable', new BooleanSchema())]),
+                    new Expectations(expectations))
+
+        and:
+            def file = File.createTempFile('service', '.json')
+            file.deleteOnExit()
+            serializer.serializeToFile(file, service)
+
+        and:
+            def handler = Mock(ServiceDefinitionHandler)
+
+        when:
+            serializer.readServiceDefinition(file, handler)
+
+        then:
+            1 * handler.onName('service')
+            1 * handler.onCapability(new Contract(DestinationType.QUEUE, 'capable', new BooleanSchema()))
+            1 * handler.onExpectation('provider', new Contract(DestinationType.QUEUE, 'expected', new StringSchema()))
+            1 * handler.onExpectation('another-provider', new Contract(DestinationType.TOPIC, 'other', new IntegerSchema()))
+            0 * handler._
+    }
+
+    @Unroll
+    def 'Should auto-detect #format service definition'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(DestinationType.QUEUE, 'expected', serializer.generateSchema(AnotherMessage)))
+            def service = new Service(
+                    'service',
+                    new Capabilities([new Contract(DestinationType.TOPIC, 'capable', new BooleanSchema())]),
+                    new Expectations(expectations))
+
+        and:
+            def file = File.createTempFile('service', format.fileExtension)
+            file.deleteOnExit()
+            file.bytes = serializer.serializeToBytes(service, format)
+
+        and:
+            def streamed = []
+            def handler = [
+                    onCapability : { streamed << it },
+                    onExpectation: { providerName, contract -> streamed << contract }
+            ] as ServiceDefinitionHandler
+
+        when:
+            def read = serializer.readServiceDefinition(file)
+            serializer.readServiceDefinition(new ByteArrayInputStream(file.bytes), handler)
+
+        then:
+            read == service
+            streamed == service.capabilities.contracts + service.expectations.providerNameToContracts.values()
+
+        where:
+            format << SerializationFormat.values()
+    }
+
+    def 'Should write reused nested schemas once into shared definitions'() {
+        given:
+            def service = new Service(
+                    'service',
+                    new Capabilities(['first', 'second', 'third'].collect {
+                        new Contract(DestinationType.QUEUE, it, serializer.generateSchema(Message))
+                    }),
+                    new Expectations(ArrayListMultimap.create()))
+
+        when:
+            def shared = serializer.serializeToBytes(service, SerializationFormat.JSON, SchemaLayout.SHARED_DEFINITIONS)
+
+        then:
+            def json = new JsonSlurper().parse(shared)
+            json.keySet() as List == ['name', 'definitions', 'capabilities', 'expectations']
+            json.definitions == [InnerMessage: new JsonSlurper().parse(serializer.serializeToBytes(innerPart()))]
+            json.capabilities.contracts[0].message.properties.inner == [type: 'object', '$ref': '#/definitions/InnerMessage']
+            json.capabilities.contracts[0].message.properties.subinner == [type: 'object', '$ref': '#/definitions/InnerMessage']
+            shared.length < serializer.serializeToBytes(service).length
+
+        and:
+            serializer.serializeToBytes(service, SerializationFormat.JSON, SchemaLayout.INLINE) == serializer.serializeToBytes(service)
+    }
+
+    def 'Should read shared definitions before contracts'() {
+        given:
+            def service = new Service(
+                    'service',
+                    new Capabilities([new Contract(DestinationType.QUEUE, 'messages', serializer.generateSchema(Message))]),
+                    new Expectations(ArrayListMultimap.create()))
+            def shared = serializer.serializeToBytes(service, SerializationFormat.SMILE, SchemaLayout.SHARED_DEFINITIONS)
+
+        and:
+            def file = File.createTempFile('service', '.smile')
+            file.deleteOnExit()
+            file.bytes = shared
+
+        and:
+            def handler = Mock(ServiceDefinitionHandler)
+
+        when:
+            def read = serializer.readServiceDefinition(file)
+
+        then:
+            read.definitions == [InnerMessage: innerPart()]
+            read.capabilities.contracts[0].message.properties.inner.'$ref' == '#/definitions/InnerMessage'
+
+        when:
+            serializer.readServiceDefinition(new ByteArrayInputStream(shared), handler)
+
+        then:
+            1 * handler.onName('service')
+
+        then:
+            1 * handler.onDefinition('InnerMessage', innerPart())
+
+        then:
+            1 * handler.onCapability(_)
+            0 * handler._
+    }
+
+    @Unroll
+    def 'Should read #format service definition with contract messages parsed on first access'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(DestinationType.QUEUE, 'expected', serializer.generateSchema(AnotherMessage)))
+            def service = new Service(
+                    'service',
+                    new Capabilities([
+                            new Contract(DestinationType.TOPIC, 'capable', serializer.generateSchema(Message)),
+                            new Contract(DestinationType.TOPIC, 'untyped', null)
+                    ]),
+                    new Expectations(expectations))
+
+        and:
+            def file = File.createTempFile('service', format.fileExtension)
+            file.deleteOnExit()
+            file.bytes = serializer.serializeToBytes(service, format)
+
+        when:
+            def read = serializer.readServiceDefinition(file.toPath(), SchemaLoading.LAZY)
+            def contracts = read.capabilities.contracts + read.expectations.providerNameToContracts.values()
+
+        then:
+            contracts*.destinationType == [DestinationType.TOPIC, DestinationType.TOPIC, DestinationType.QUEUE]
+            contracts*.destinationName == ['capable', 'untyped', 'expected']
+            contracts*.messageId == ['Message', null, 'AnotherMessage']
+            contracts*.messageLoaded == [false, true, false]
+
+        when:
+            def message = contracts[0].message
+
+        then:
+            message == serializer.readServiceDefinition(file).capabilities.contracts[0].message
+            contracts[0].messageLoaded
+            !contracts[2].messageLoaded
+
+        and:
+            read == serializer.readServiceDefinition(file)
+            read == serializer.readServiceDefinition(file.toPath(), SchemaLoading.EAGER)
+
+        where:
+            format << SerializationFormat.values()
+    }
+
+    def 'Should lazily read service definition from non-default file system'() {
+        given:
+            def zip = File.createTempFile('services', '.zip')
+            zip.delete()
+            zip.deleteOnExit()
+            def fileSystem = FileSystems.newFileSystem(URI.create("jar:${zip.toURI()}"), [create: 'true'])
+            def service = new Service('service',
+                    new Capabilities([new Contract(DestinationType.TOPIC, 'capable', serializer.generateSchema(Message))]),
+                    new Expectations(ArrayListMultimap.create()))
+            def path = fileSystem.getPath('service.json')
+            Files.write(path, serializer.serializeToBytes(service))
+
+        when:
+            def read = serializer.readServiceDefinition(path, SchemaLoading.LAZY)
+
+        then:
+            read.capabilities.contracts*.messageId == ['Message']
+            read == serializer.readServiceDefinition(path)
+
+        cleanup:
+            fileSystem?.close()
+    }
+
+    def 'Should fail on first access to malformed lazily read contract message'() {
+        given:
+            def file = File.createTempFile('service', '.json')
+            file.deleteOnExit()
+            file.text = '{"name":"service","capabilities":{"contracts":[' +
+                    '{"destinationType":"QUEUE","destinationName":"queue","message":{"id":"broken","type":"object","properties":1}}]}}'
+
+        when:
+            def contract = serializer.readServiceDefinition(file.toPath(), SchemaLoading.LAZY).capabilities.contracts[0]
+
+        then:
+            contract.messageId == 'broken'
+
+        when:
+            contract.message
+
+        then:
+            def ex = thrown(VauntSerializationException)
+            ex.message == 'Error during reading contract message schema'
+    }
+
+    def 'Should fail streaming malformed service definition'() {
+        given:
+            def stream = new ByteArrayInputStream('{"name":"service","capabilities":{"contracts":{}}}'.getBytes('UTF-8'))
+
+        when:
+            serializer.readServiceDefinition(stream, Mock(ServiceDefinitionHandler))
+
+        then:
+            thrown(VauntSerializationException)
+    }
+
     def schema() {
         def schema = new ObjectSchema()
         schema.setId(Message.getSimpleName())
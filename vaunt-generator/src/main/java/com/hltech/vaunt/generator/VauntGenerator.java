@@ -1,24 +1,53 @@
 package com.hltech.vaunt.generator;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import com.hltech.vaunt.core.SchemaLayout;
+import com.hltech.vaunt.core.SerializationFormat;
+import com.hltech.vaunt.core.VauntListener;
+import com.hltech.vaunt.core.VauntPhase;
 import com.hltech.vaunt.core.VauntSerializer;
 import com.hltech.vaunt.core.domain.model.Service;
 import com.hltech.vaunt.generator.domain.representation.RepresentationExtractor;
 import com.hltech.vaunt.generator.domain.representation.RepresentationWriter;
+import com.hltech.vaunt.generator.domain.representation.SchemaCache;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 @RequiredArgsConstructor
 public class VauntGenerator {
 
     private final RepresentationExtractor extractor;
     private final RepresentationWriter writer;
+    private final VauntListener listener;
 
     public VauntGenerator() {
-        VauntSerializer serializer = new VauntSerializer();
-        extractor = new RepresentationExtractor(serializer);
-        writer = new RepresentationWriter(serializer);
+        this(MoreExecutors.directExecutor());
+    }
+
+    public VauntGenerator(Executor executor) {
+        this(executor, SerializationFormat.JSON);
+    }
+
+    public VauntGenerator(Executor executor, SerializationFormat format) {
+        this(executor, format, VauntListener.NO_OP);
+    }
+
+    public VauntGenerator(Executor executor, SerializationFormat format, VauntListener listener) {
+        this(executor, format, SchemaLayout.INLINE, listener);
+    }
+
+    public VauntGenerator(Executor executor, SerializationFormat format, SchemaLayout layout,
+                          VauntListener listener) {
+        this(new RepresentationExtractor(SchemaCache.shared(), executor, listener),
+                new RepresentationWriter(new VauntSerializer(), format, layout),
+                listener);
+    }
+
+    public VauntGenerator(RepresentationExtractor extractor, RepresentationWriter writer) {
+        this(extractor, writer, VauntListener.NO_OP);
     }
 
     public void writeVauntFile(String packageRoot, String serviceName, String targetDirectory) {
@@ -26,9 +55,32 @@ public class VauntGenerator {
     }
 
     public void writeVauntFile(String packageRoot, String serviceName, String targetDirectory, Properties props) {
+        Service service = serviceRepresentation(packageRoot, serviceName, props);
+
+        write(service, () -> {
+            writer.writeServiceRepresentation(service, targetDirectory);
+            return true;
+        });
+    }
+
+    public boolean writeVauntFileIfChanged(String packageRoot, String serviceName, String targetDirectory) {
+        return writeVauntFileIfChanged(packageRoot, serviceName, targetDirectory, new Properties());
+    }
+
+    public boolean writeVauntFileIfChanged(String packageRoot, String serviceName, String targetDirectory,
+                                           Properties props) {
+        Service service = serviceRepresentation(packageRoot, serviceName, props);
+
+        return write(service, () -> writer.writeServiceRepresentationIfChanged(service, targetDirectory));
+    }
+
+    private boolean write(Service service, ServiceWrite write) {
         try {
-            writer.writeServiceRepresentation(
-                    serviceRepresentation(packageRoot, serviceName, props), targetDirectory);
+            long writeStart = listener.nanoTime();
+            boolean written = write.write();
+            listener.onPhase(VauntPhase.WRITE, contractCount(service), listener.nanoTime() - writeStart);
+
+            return written;
         } catch (IOException ex) {
             throw new VauntGenerationException("Error when trying to write service representation to file", ex);
         }
@@ -37,4 +89,17 @@ public class VauntGenerator {
     private Service serviceRepresentation(String packageRoot, String serviceName, Properties props) {
         return extractor.extractServiceRepresentation(packageRoot, serviceName, props);
     }
+
+    private int contractCount(Service service) {
+        int capabilities = service.getCapabilities() == null ? 0 : service.getCapabilities().getContracts().size();
+        int expectations = service.getExpectations() == null
+                ? 0
+                : service.getExpectations().getProviderNameToContracts().size();
+
+        return capabilities + expectations;
+    }
+
+    private interface ServiceWrite {
+        boolean write() throws IOException;
+    }
 }
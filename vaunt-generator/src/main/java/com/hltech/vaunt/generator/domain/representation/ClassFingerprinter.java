@@ -0,0 +1,115 @@
+package com.hltech.vaunt.generator.domain.representation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.hltech.vaunt.generator.VauntGenerationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+public class ClassFingerprinter {
+
+    private final Cache<Class<?>, HashCode> bytecodeHashes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    public HashCode fingerprint(Class<?> type) {
+        Map<String, Class<?>> referencedTypes = new TreeMap<>();
+        collect(type, referencedTypes);
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        referencedTypes.values().forEach(referencedType -> hasher
+                .putString(referencedType.getName(), StandardCharsets.UTF_8)
+                .putBytes(bytecodeHash(referencedType).asBytes()));
+
+        return hasher.hash();
+    }
+
+    private void collect(Type type, Map<String, Class<?>> referencedTypes) {
+        if (type instanceof Class) {
+            collect((Class<?>) type, referencedTypes);
+        } else if (type instanceof ParameterizedType) {
+            collect(((ParameterizedType) type).getRawType(), referencedTypes);
+            Arrays.stream(((ParameterizedType) type).getActualTypeArguments())
+                    .forEach(argument -> collect(argument, referencedTypes));
+        } else if (type instanceof GenericArrayType) {
+            collect(((GenericArrayType) type).getGenericComponentType(), referencedTypes);
+        } else if (type instanceof WildcardType) {
+            Arrays.stream(((WildcardType) type).getUpperBounds()).forEach(bound -> collect(bound, referencedTypes));
+            Arrays.stream(((WildcardType) type).getLowerBounds()).forEach(bound -> collect(bound, referencedTypes));
+        } else if (type instanceof TypeVariable) {
+            Arrays.stream(((TypeVariable<?>) type).getBounds()).forEach(bound -> collect(bound, referencedTypes));
+        }
+    }
+
+    private void collect(Class<?> type, Map<String, Class<?>> referencedTypes) {
+        if (type.isArray()) {
+            collect(type.getComponentType(), referencedTypes);
+            return;
+        }
+
+        if (isPlatformType(type) || referencedTypes.containsKey(type.getName())) {
+            return;
+        }
+
+        referencedTypes.put(type.getName(), type);
+
+        collect(type.getGenericSuperclass(), referencedTypes);
+        Arrays.stream(type.getGenericInterfaces()).forEach(iface -> collect(iface, referencedTypes));
+
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                collect(field.getGenericType(), referencedTypes);
+            }
+        }
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0) {
+                collect(method.getGenericReturnType(), referencedTypes);
+            }
+        }
+    }
+
+    private boolean isPlatformType(Class<?> type) {
+        return type.isPrimitive()
+                || type.getClassLoader() == null
+                || type.getName().startsWith("java.")
+                || type.getName().startsWith("javax.");
+    }
+
+    private HashCode bytecodeHash(Class<?> type) {
+        try {
+            return bytecodeHashes.get(type, () -> hashBytecode(type));
+        } catch (ExecutionException ex) {
+            throw new VauntGenerationException("Unable to read bytecode of type " + type.getName(), ex.getCause());
+        }
+    }
+
+    private HashCode hashBytecode(Class<?> type) throws IOException {
+        String resource = type.getName().replace('.', '/').concat(".class");
+
+        try (InputStream bytecode = type.getClassLoader().getResourceAsStream(resource)) {
+            if (bytecode == null) {
+                return Hashing.murmur3_128().hashString(type.toGenericString(), StandardCharsets.UTF_8);
+            }
+            return Hashing.murmur3_128().hashBytes(ByteStreams.toByteArray(bytecode));
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.hltech.vaunt.generator.domain.representation;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
-import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.hltech.vaunt.core.VauntListener;
+import com.hltech.vaunt.core.VauntPhase;
 import com.hltech.vaunt.core.VauntSerializer;
 import com.hltech.vaunt.core.domain.model.Capabilities;
 import com.hltech.vaunt.core.domain.model.Contract;
@@ -14,63 +18,178 @@ import com.hltech.vaunt.generator.domain.representation.annotation.Consumer;
 import com.hltech.vaunt.generator.domain.representation.annotation.Consumers;
 import com.hltech.vaunt.generator.domain.representation.annotation.Provider;
 import com.hltech.vaunt.generator.domain.representation.annotation.Providers;
+import com.hltech.vaunt.generator.domain.representation.index.ContractIndex;
 import lombok.RequiredArgsConstructor;
 import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ConfigurationBuilder;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class RepresentationExtractor {
 
-    private final VauntSerializer serializer;
+    private static final String SCHEMA_CACHE = "schemaCache";
+
+    private final SchemaCache schemaCache;
+    private final int scanThreads;
+    private final Executor executor;
+    private final VauntListener listener;
+
+    public RepresentationExtractor(VauntSerializer serializer) {
+        this(serializer, MoreExecutors.directExecutor());
+    }
+
+    public RepresentationExtractor(VauntSerializer serializer, Executor executor) {
+        this(new SchemaCache(serializer), executor);
+    }
+
+    public RepresentationExtractor(SchemaCache schemaCache, Executor executor) {
+        this(schemaCache, executor, VauntListener.NO_OP);
+    }
+
+    public RepresentationExtractor(SchemaCache schemaCache, Executor executor, VauntListener listener) {
+        this(schemaCache, Runtime.getRuntime().availableProcessors(), executor, listener);
+    }
+
+    public RepresentationExtractor(SchemaCache schemaCache, int scanThreads, Executor executor) {
+        this(schemaCache, scanThreads, executor, VauntListener.NO_OP);
+    }
 
     public Service extractServiceRepresentation(String packageRoot, String serviceName, Properties props) {
-        return new Service(serviceName,
-                extractCapabilities(packageRoot, props),
-                extractExpectations(packageRoot, props));
+        long scanStart = listener.nanoTime();
+        AnnotatedTypes annotatedTypes = annotatedTypes(packageRoot);
+        List<Supplier<Contract>> providerContracts = providerContracts(annotatedTypes, props);
+        List<Supplier<Map.Entry<String, Contract>>> consumerContracts = consumerContracts(annotatedTypes, props);
+        int contractCount = providerContracts.size() + consumerContracts.size();
+
+        long generationStart = listener.nanoTime();
+        listener.onPhase(VauntPhase.SCAN, contractCount, generationStart - scanStart);
+
+        Service service = new Service(serviceName,
+                new Capabilities(generate(providerContracts)),
+                expectations(generate(consumerContracts)));
+
+        listener.onPhase(VauntPhase.SCHEMA_GENERATION, contractCount, listener.nanoTime() - generationStart);
+        listener.onCacheStats(SCHEMA_CACHE, schemaCache.getStats());
+
+        return service;
+    }
+
+    private AnnotatedTypes annotatedTypes(String packageRoot) {
+        Optional<ContractIndex> index = ContractIndex.load(classLoader(), packageRoot);
+        if (index.isPresent()) {
+            return index.get()::getTypesAnnotatedWith;
+        }
+
+        return scan(packageRoot)::getTypesAnnotatedWith;
+    }
+
+    private ClassLoader classLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : RepresentationExtractor.class.getClassLoader();
     }
 
-    private Capabilities extractCapabilities(String packageRoot, Properties props) {
-        List<Contract> providerContracts = new ArrayList<>();
+    private Reflections scan(String packageRoot) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.build(packageRoot)
+                .setScanners(new TypeAnnotationsScanner(), new SubTypesScanner());
 
-        new Reflections(packageRoot).getTypesAnnotatedWith(Providers.class)
+        int urls = configuration.getUrls().size();
+        if (scanThreads > 1 && urls > 1) {
+            configuration.useParallelExecutor(Math.min(scanThreads, urls));
+        }
+
+        return new Reflections(configuration);
+    }
+
+    private List<Supplier<Contract>> providerContracts(AnnotatedTypes annotatedTypes, Properties props) {
+        List<Supplier<Contract>> providerContracts = new ArrayList<>();
+
+        sortedTypesAnnotatedWith(annotatedTypes, Providers.class)
                 .forEach(providerMessage -> Arrays.stream(providerMessage.getAnnotation(Providers.class).value())
-                        .forEach(providerAnnotation -> providerContracts.add(
+                        .forEach(providerAnnotation -> providerContracts.add(() ->
                                 extractProviderContract(providerMessage, providerAnnotation, props))));
 
-        new Reflections(packageRoot).getTypesAnnotatedWith(Provider.class)
-                .forEach(providerMessage -> providerContracts.add(extractProviderContract(
+        sortedTypesAnnotatedWith(annotatedTypes, Provider.class)
+                .forEach(providerMessage -> providerContracts.add(() -> extractProviderContract(
                         providerMessage, providerMessage.getAnnotation(Provider.class), props)));
 
-        return new Capabilities(providerContracts);
+        return providerContracts;
     }
 
-    private Expectations extractExpectations(String packageRoot, Properties props) {
-        Multimap<String, Contract> providerNameToContracts = ArrayListMultimap.create();
+    private List<Supplier<Map.Entry<String, Contract>>> consumerContracts(AnnotatedTypes annotatedTypes,
+                                                                          Properties props) {
+        List<Supplier<Map.Entry<String, Contract>>> consumerContracts = new ArrayList<>();
 
-        new Reflections(packageRoot).getTypesAnnotatedWith(Consumers.class)
+        sortedTypesAnnotatedWith(annotatedTypes, Consumers.class)
                 .forEach(consumerMessage -> Arrays.stream(consumerMessage.getAnnotation(Consumers.class).value())
-                        .forEach(consumerAnnotation -> providerNameToContracts.put(
+                        .forEach(consumerAnnotation -> consumerContracts.add(() -> Maps.immutableEntry(
                                 consumerAnnotation.providerName(),
-                                extractConsumerContract(consumerMessage, consumerAnnotation, props))));
+                                extractConsumerContract(consumerMessage, consumerAnnotation, props)))));
 
-        new Reflections(packageRoot).getTypesAnnotatedWith(Consumer.class)
-                .forEach(consumerMessage -> providerNameToContracts.put(
+        sortedTypesAnnotatedWith(annotatedTypes, Consumer.class)
+                .forEach(consumerMessage -> consumerContracts.add(() -> Maps.immutableEntry(
                         consumerMessage.getAnnotation(Consumer.class).providerName(), extractConsumerContract(
-                                consumerMessage, consumerMessage.getAnnotation(Consumer.class), props)));
+                                consumerMessage, consumerMessage.getAnnotation(Consumer.class), props))));
+
+        return consumerContracts;
+    }
+
+    private Expectations expectations(List<Map.Entry<String, Contract>> consumerContracts) {
+        Multimap<String, Contract> providerNameToContracts = MultimapBuilder.treeKeys().arrayListValues().build();
+        consumerContracts.forEach(entry -> providerNameToContracts.put(entry.getKey(), entry.getValue()));
 
         return new Expectations(providerNameToContracts);
     }
 
+    private List<Class<?>> sortedTypesAnnotatedWith(AnnotatedTypes annotatedTypes,
+                                                    Class<? extends Annotation> annotation) {
+        return annotatedTypes.getTypesAnnotatedWith(annotation).stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> generate(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(task, executor))
+                .collect(Collectors.toList());
+
+        return futures.stream()
+                .map(this::join)
+                .collect(Collectors.toList());
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
     private Contract extractProviderContract(Class<?> providerMessage, Provider providerAnnotation, Properties props) {
         try {
-            JsonSchema body = serializer.generateSchema(providerMessage);
+            JsonSchema body = schemaCache.generateSchema(providerMessage);
 
             if (!providerAnnotation.messageId().equals(Provider.EMPTY)) {
-                body.setId(providerAnnotation.messageId());
+                body = schemaCache.withId(body, providerAnnotation.messageId());
             }
 
             return new Contract(
@@ -84,10 +203,10 @@ public class RepresentationExtractor {
 
     private Contract extractConsumerContract(Class<?> consumerMessage, Consumer consumerAnnotation, Properties props) {
         try {
-            JsonSchema body = serializer.generateSchema(consumerMessage);
+            JsonSchema body = schemaCache.generateSchema(consumerMessage);
 
             if (!consumerAnnotation.messageId().equals(Consumer.EMPTY)) {
-                body.setId(consumerAnnotation.messageId());
+                body = schemaCache.withId(body, consumerAnnotation.messageId());
             }
 
             return new Contract(
@@ -98,4 +217,8 @@ public class RepresentationExtractor {
             throw new VauntGenerationException("Unable to extract contract for given consumer", ex);
         }
     }
+
+    private interface AnnotatedTypes {
+        Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation);
+    }
 }
@@ -1,25 +1,69 @@
 package com.hltech.vaunt.generator.domain.representation;
 
+import com.hltech.vaunt.core.SchemaLayout;
+import com.hltech.vaunt.core.SerializationFormat;
 import com.hltech.vaunt.core.VauntSerializer;
 import com.hltech.vaunt.core.domain.model.Service;
 import lombok.RequiredArgsConstructor;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 
 @RequiredArgsConstructor
 public class RepresentationWriter {
 
     private final VauntSerializer serializer;
+    private final SerializationFormat format;
+    private final SchemaLayout layout;
+
+    public RepresentationWriter(VauntSerializer serializer) {
+        this(serializer, SerializationFormat.JSON);
+    }
+
+    public RepresentationWriter(VauntSerializer serializer, SerializationFormat format) {
+        this(serializer, format, SchemaLayout.INLINE);
+    }
 
     public void writeServiceRepresentation(Service service, String targetDirectory) throws IOException {
-        File targetDir = Paths.get(targetDirectory).toFile();
-        if (targetDir != null && !targetDir.exists()) {
-            targetDir.mkdirs();
+        writeServiceRepresentationIfChanged(service, targetDirectory);
+    }
+
+    public boolean writeServiceRepresentationIfChanged(Service service, String targetDirectory) throws IOException {
+        Path targetDir = Paths.get(targetDirectory);
+        Files.createDirectories(targetDir);
+
+        Path targetFile = targetDir.resolve(service.getName().concat(format.getFileExtension()));
+        byte[] content = serializer.serializeToBytes(service, format, layout);
+        if (hasContent(targetFile, content)) {
+            return false;
         }
 
-        File targetFile = Paths.get(targetDirectory).resolve(service.getName().concat(".json")).toFile();
-        serializer.serializeToFile(targetFile, service);
+        Path tempFile = Files.createTempFile(targetDir, service.getName(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            move(tempFile, targetFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    private boolean hasContent(Path file, byte[] content) throws IOException {
+        return Files.isRegularFile(file)
+                && Files.size(file) == content.length
+                && Arrays.equals(Files.readAllBytes(file), content);
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 }
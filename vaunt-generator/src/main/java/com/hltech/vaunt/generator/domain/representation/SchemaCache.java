@@ -0,0 +1,90 @@
+package com.hltech.vaunt.generator.domain.representation;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.hltech.vaunt.core.SchemaTree;
+import com.hltech.vaunt.core.VauntSerializer;
+import com.hltech.vaunt.generator.VauntGenerationException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ExecutionException;
+
+@RequiredArgsConstructor
+public class SchemaCache {
+
+    private static final int DEFAULT_MAXIMUM_FINGERPRINTS = 10_000;
+    private static final SchemaCache SHARED = new SchemaCache(new VauntSerializer(), new ClassFingerprinter());
+
+    private final VauntSerializer serializer;
+    private final ClassFingerprinter fingerprinter;
+    private final Cache<Class<?>, JsonSchema> schemas = CacheBuilder.newBuilder()
+            .weakKeys()
+            .recordStats()
+            .build();
+    private final Cache<HashCode, JsonSchema> fingerprintedSchemas = CacheBuilder.newBuilder()
+            .maximumSize(DEFAULT_MAXIMUM_FINGERPRINTS)
+            .build();
+
+    public SchemaCache(VauntSerializer serializer) {
+        this(serializer, null);
+    }
+
+    public static SchemaCache shared() {
+        return SHARED;
+    }
+
+    public JsonSchema generateSchema(Class<?> type) throws JsonMappingException {
+        try {
+            return copyRoot(schemas.get(type, () -> load(type)));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof JsonMappingException) {
+                throw (JsonMappingException) ex.getCause();
+            }
+            throw new VauntGenerationException("Unable to generate schema for type " + type.getName(), ex.getCause());
+        } catch (UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
+
+    public JsonSchema withId(JsonSchema schema, String id) {
+        JsonSchema copy = copyRoot(schema);
+        copy.setId(id);
+        return copy;
+    }
+
+    public long size() {
+        return schemas.size();
+    }
+
+    public CacheStats getStats() {
+        return schemas.stats();
+    }
+
+    public void invalidateAll() {
+        schemas.invalidateAll();
+        fingerprintedSchemas.invalidateAll();
+    }
+
+    private JsonSchema copyRoot(JsonSchema schema) {
+        return SchemaTree.copy(schema, child -> child);
+    }
+
+    private JsonSchema load(Class<?> type) throws JsonMappingException {
+        if (fingerprinter == null) {
+            return serializer.generateSchema(type);
+        }
+
+        HashCode fingerprint = fingerprinter.fingerprint(type);
+        JsonSchema schema = fingerprintedSchemas.getIfPresent(fingerprint);
+        if (schema == null) {
+            schema = serializer.generateSchema(type);
+            fingerprintedSchemas.put(fingerprint, schema);
+        }
+        return schema;
+    }
+}
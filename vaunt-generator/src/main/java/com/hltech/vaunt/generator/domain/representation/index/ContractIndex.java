@@ -0,0 +1,103 @@
+package com.hltech.vaunt.generator.domain.representation.index;
+
+import com.hltech.vaunt.generator.VauntGenerationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class ContractIndex {
+
+    public static final String LOCATION = "META-INF/vaunt/contracts.index";
+    public static final String IGNORE_PROPERTY = "vaunt.index.ignore";
+
+    private final ClassLoader classLoader;
+    private final Set<String> typeNames;
+
+    private ContractIndex(ClassLoader classLoader, Set<String> typeNames) {
+        this.classLoader = classLoader;
+        this.typeNames = Collections.unmodifiableSet(typeNames);
+    }
+
+    public static Optional<ContractIndex> load(ClassLoader classLoader, String packageRoot) {
+        if (Boolean.getBoolean(IGNORE_PROPERTY) || packageRoot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, URL> indexes = roots(classLoader, LOCATION);
+            Set<String> packageRoots = roots(classLoader, packageRoot.replace('.', '/')).keySet();
+            if (packageRoots.isEmpty() || !indexes.keySet().containsAll(packageRoots)) {
+                return Optional.empty();
+            }
+
+            Set<String> typeNames = new TreeSet<>();
+            for (String root : packageRoots) {
+                read(indexes.get(root)).stream()
+                        .filter(typeName -> typeName.startsWith(packageRoot + "."))
+                        .forEach(typeNames::add);
+            }
+            return Optional.of(new ContractIndex(classLoader, typeNames));
+        } catch (IOException ex) {
+            throw new VauntGenerationException("Unable to read contract index " + LOCATION, ex);
+        }
+    }
+
+    public Set<String> getTypeNames() {
+        return typeNames;
+    }
+
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        return typeNames.stream()
+                .map(this::loadType)
+                .filter(type -> type.isAnnotationPresent(annotation))
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, URL> roots(ClassLoader classLoader, String resource) throws IOException {
+        Map<String, URL> roots = new LinkedHashMap<>();
+        Enumeration<URL> resources = classLoader.getResources(resource);
+
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            String location = url.toString();
+            if (location.endsWith("/")) {
+                location = location.substring(0, location.length() - 1);
+            }
+            if (location.endsWith(resource)) {
+                roots.put(location.substring(0, location.length() - resource.length()), url);
+            }
+        }
+
+        return roots;
+    }
+
+    private static Set<String> read(URL index) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private Class<?> loadType(String typeName) {
+        try {
+            return Class.forName(typeName, false, classLoader);
+        } catch (ClassNotFoundException ex) {
+            throw new VauntGenerationException("Type listed in contract index not found: " + typeName, ex);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hltech.vaunt.generator.domain.representation.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@SupportedAnnotationTypes({
+        "com.hltech.vaunt.generator.domain.representation.annotation.Provider",
+        "com.hltech.vaunt.generator.domain.representation.annotation.Providers",
+        "com.hltech.vaunt.generator.domain.representation.annotation.Consumer",
+        "com.hltech.vaunt.generator.domain.representation.annotation.Consumers"
+})
+@SupportedOptions(ContractIndexProcessor.ENABLED_OPTION)
+public class ContractIndexProcessor extends AbstractProcessor {
+
+    public static final String ENABLED_OPTION = "vaunt.index";
+
+    private final Set<String> typeNames = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!Boolean.parseBoolean(processingEnv.getOptions().get(ENABLED_OPTION))) {
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    typeNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                    originatingElements.add(element);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !typeNames.isEmpty()) {
+            writeIndex();
+        }
+
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    ContractIndex.LOCATION, originatingElements.toArray(new Element[0]));
+
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String typeName : typeNames) {
+                    writer.write(typeName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write contract index " + ContractIndex.LOCATION + ": " + ex.getMessage());
+        }
+    }
+}
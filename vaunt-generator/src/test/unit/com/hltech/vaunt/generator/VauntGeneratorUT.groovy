@@ -30,4 +30,22 @@ class VauntGeneratorUT extends Specification {
         then:
             1 * writerMock.writeServiceRepresentation(service, targetDir)
     }
+
+    def "should report whether service representation was written"() {
+        given:
+            def packageRoot = 'com.example.package'
+            def serviceName = 'service-name'
+            def targetDir = './build/tmp/test/'
+
+        and:
+            def service = Mock(Service)
+            extractorMock.extractServiceRepresentation(packageRoot, serviceName, new Properties()) >> service
+
+        when:
+            def written = generator.writeVauntFileIfChanged(packageRoot, serviceName, targetDir)
+
+        then:
+            1 * writerMock.writeServiceRepresentationIfChanged(service, targetDir) >> false
+            !written
+    }
 }
@@ -0,0 +1,50 @@
+package com.hltech.vaunt.generator.domain.representation
+
+import com.hltech.vaunt.generator.domain.representation.message.monoannotated.SampleConsumerMessage
+import com.hltech.vaunt.generator.domain.representation.message.monoannotated.SampleProviderMessage
+import spock.lang.Specification
+import spock.lang.Subject
+
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ClassFingerprinterUT extends Specification {
+
+    @Subject
+    ClassFingerprinter fingerprinter = new ClassFingerprinter()
+
+    def 'Should produce stable fingerprint for the same class'() {
+        expect:
+            fingerprinter.fingerprint(SampleProviderMessage) == fingerprinter.fingerprint(SampleProviderMessage)
+            fingerprinter.fingerprint(SampleProviderMessage) == new ClassFingerprinter().fingerprint(SampleProviderMessage)
+    }
+
+    def 'Should produce different fingerprints for different classes'() {
+        expect:
+            fingerprinter.fingerprint(SampleProviderMessage) != fingerprinter.fingerprint(SampleConsumerMessage)
+    }
+
+    def 'Should produce different fingerprints when referenced type changes'() {
+        given:
+            def message = 'public class Message { public Address address; }'
+            def firstVersion = compile(message, 'public class Address { public String street; }')
+            def secondVersion = compile(message, 'public class Address { public String street; public int number; }')
+
+        expect:
+            fingerprinter.fingerprint(firstVersion.loadClass('Message')) !=
+                    fingerprinter.fingerprint(secondVersion.loadClass('Message'))
+    }
+
+    private ClassLoader compile(String... sources) {
+        Path directory = Files.createTempDirectory('fingerprint')
+        def files = sources.collect { source ->
+            def file = directory.resolve(source.find(/class (\w+)/) { match, name -> name } + '.java')
+            file.text = source
+            file.toString()
+        }
+        assert ToolProvider.systemJavaCompiler.run(null, null, null, files as String[]) == 0
+
+        new URLClassLoader([directory.toUri().toURL()] as URL[], (ClassLoader) null)
+    }
+}
@@ -1,12 +1,27 @@
 package com.hltech.vaunt.generator.domain.representation
 
+import com.google.common.util.concurrent.MoreExecutors
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.core.VauntPhase
 import com.hltech.vaunt.core.VauntSerializer
 import com.hltech.vaunt.generator.domain.representation.message.poliannotated.SampleConsumerMessage
 import com.hltech.vaunt.generator.domain.representation.message.poliannotated.SampleProviderMessage
 import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.generator.domain.representation.annotation.Provider
+import com.hltech.vaunt.generator.domain.representation.index.ContractIndex
+import com.hltech.vaunt.generator.domain.representation.index.ContractIndexProcessor
+import org.reflections.util.ConfigurationBuilder
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.concurrent.ForkJoinPool
+
+import javax.tools.ToolProvider
 
 class RepresentationExtractorUT extends Specification {
 
@@ -225,4 +240,258 @@ class RepresentationExtractorUT extends Specification {
             providerContract.message.getId() == 'randomId'
             providerContract.message == expectedBody
     }
+
+    @Unroll
+    def 'Should extract the same service representation with contracts in the same order when generating schemas in parallel for #packageName'() {
+        given: 'extractor generating schemas on a fork join pool'
+            def pool = new ForkJoinPool(4)
+            def parallelExtractor = new RepresentationExtractor(serializer, pool)
+
+        when: 'Service representation is extracted sequentially and in parallel'
+            def service = representationExtractor.extractServiceRepresentation(packageName, 'service', new Properties())
+            def parallelServices = (1..5).collect {
+                parallelExtractor.extractServiceRepresentation(packageName, 'service', new Properties())
+            }
+
+        then: 'Contracts are the same and in the same order'
+            parallelServices.every { it.capabilities.contracts == service.capabilities.contracts }
+            parallelServices.every {
+                it.expectations.providerNameToContracts.entries().asList() == service.expectations.providerNameToContracts.entries().asList()
+            }
+
+        cleanup:
+            pool.shutdown()
+
+        where:
+            packageName << [
+                    'com.hltech.vaunt.generator.domain.representation.message',
+                    'com.hltech.vaunt.generator.domain.representation.message.poliannotated'
+            ]
+    }
+
+    def 'Should report scan and schema generation phases with contract count and schema cache stats to listener'() {
+        given: 'extractor with listener'
+            def listener = Mock(VauntListener)
+            def listeningExtractor = new RepresentationExtractor(
+                    new SchemaCache(serializer), MoreExecutors.directExecutor(), listener)
+
+        when: 'Service representation is extracted'
+            listeningExtractor.extractServiceRepresentation(
+                    'com.hltech.vaunt.generator.domain.representation.message.monoannotated', 'service', new Properties())
+
+        then: 'Phases and cache stats are reported'
+            _ * listener.nanoTime() >> { System.nanoTime() }
+            1 * listener.onPhase(VauntPhase.SCAN, 2, { it > 0 })
+            1 * listener.onPhase(VauntPhase.SCHEMA_GENERATION, 2, { it > 0 })
+            1 * listener.onCacheStats('schemaCache', { it.missCount() == 2 })
+    }
+
+    def 'Should extract the same service representation from contract index as from classpath scanning'() {
+        given: 'messages compiled with contract index'
+            def classes = compile(true, [
+                    'com/example/indexed/OrderCreated.java': provider('com.example.indexed', 'OrderCreated'),
+                    'com/example/indexed/PaymentReceived.java': consumer('com.example.indexed', 'PaymentReceived')])
+
+        when: 'Service representation is extracted with and without the index'
+            def indexed = withContextClassLoader([classes]) {
+                representationExtractor.extractServiceRepresentation('com.example.indexed', 'service', new Properties())
+            }
+            def scanned = withContextClassLoader([classes]) {
+                withSystemProperty(ContractIndex.IGNORE_PROPERTY, 'true') {
+                    representationExtractor.extractServiceRepresentation('com.example.indexed', 'service', new Properties())
+                }
+            }
+
+        then: 'Representations are the same'
+            indexed.capabilities.contracts.size() == 1
+            indexed.capabilities.contracts == scanned.capabilities.contracts
+            indexed.expectations.providerNameToContracts.entries().asList() ==
+                    scanned.expectations.providerNameToContracts.entries().asList()
+
+        cleanup:
+            classes.toFile().deleteDir()
+    }
+
+    def 'Should extract only types listed in contract index under package root'() {
+        given: 'contract index listing the provider message and a message from a sibling package'
+            def classes = compile(true, [
+                    'com/example/indexed/OrderCreated.java': provider('com.example.indexed', 'OrderCreated'),
+                    'com/example/indexed/PaymentReceived.java': consumer('com.example.indexed', 'PaymentReceived'),
+                    'com/example/indexedother/Other.java': provider('com.example.indexedother', 'Other')])
+            classes.resolve(ContractIndex.LOCATION).text = 'com.example.indexed.OrderCreated\ncom.example.indexedother.Other\n'
+
+        when: 'Service representation is extracted with the index'
+            def service = withContextClassLoader([classes]) {
+                representationExtractor.extractServiceRepresentation('com.example.indexed', 'service', new Properties())
+            }
+
+        then: 'Only the indexed contract from package root is present'
+            service.capabilities.contracts*.message*.id == ['OrderCreated']
+            service.expectations.providerNameToContracts.isEmpty()
+
+        cleanup:
+            classes.toFile().deleteDir()
+    }
+
+    def 'Should scan classpath when contract index does not cover every location of package root'() {
+        given: 'provider message compiled with contract index and consumer message compiled without it'
+            def indexedClasses = compile(true, [
+                    'com/example/indexed/OrderCreated.java': provider('com.example.indexed', 'OrderCreated')])
+            def classes = compile(false, [
+                    'com/example/indexed/PaymentReceived.java': consumer('com.example.indexed', 'PaymentReceived')])
+
+        when: 'Service representation is extracted'
+            def service = withContextClassLoader([indexedClasses, classes]) {
+                representationExtractor.extractServiceRepresentation('com.example.indexed', 'service', new Properties())
+            }
+
+        then: 'Both contracts are present'
+            service.capabilities.contracts.size() == 1
+            service.expectations.providerNameToContracts.size() == 1
+
+        cleanup:
+            indexedClasses.toFile().deleteDir()
+            classes.toFile().deleteDir()
+    }
+
+    def 'Should find single and repeated provider and consumer annotations in one classpath scan'() {
+        given: 'extractor with listener'
+            def listener = Mock(VauntListener)
+            def listeningExtractor = new RepresentationExtractor(
+                    new SchemaCache(serializer), 1, MoreExecutors.directExecutor(), listener)
+
+        when: 'Service representation is extracted by scanning package with all annotation kinds'
+            def service = withSystemProperty(ContractIndex.IGNORE_PROPERTY, 'true') {
+                listeningExtractor.extractServiceRepresentation(
+                        'com.hltech.vaunt.generator.domain.representation.message', 'service', new Properties())
+            }
+
+        then: 'Contracts of @Providers, @Provider, @Consumers and @Consumer messages are present'
+            service.capabilities.contracts*.message == [
+                    serializer.generateSchema(SampleProviderMessage),
+                    serializer.generateSchema(SampleProviderMessage),
+                    serializer.generateSchema(com.hltech.vaunt.generator.domain.representation.message.idannotated.SampleProviderMessage),
+                    serializer.generateSchema(com.hltech.vaunt.generator.domain.representation.message.monoannotated.SampleProviderMessage)]
+            service.capabilities.contracts*.destinationName == ['destination', 'destination2', 'destination', 'destination']
+            service.expectations.providerNameToContracts.keySet() == ['provider'] as Set
+            service.expectations.providerNameToContracts.get('provider')*.message == [
+                    serializer.generateSchema(SampleConsumerMessage),
+                    serializer.generateSchema(SampleConsumerMessage),
+                    serializer.generateSchema(com.hltech.vaunt.generator.domain.representation.message.idannotated.SampleConsumerMessage),
+                    serializer.generateSchema(com.hltech.vaunt.generator.domain.representation.message.monoannotated.SampleConsumerMessage)]
+
+        and: 'Classpath is scanned once'
+            _ * listener.nanoTime() >> { System.nanoTime() }
+            1 * listener.onPhase(VauntPhase.SCAN, 8, _)
+    }
+
+    def 'Should extract the same service representation when scanning many classpath locations in parallel'() {
+        given: 'messages of one package compiled into two classpath locations'
+            def first = compile(false, [
+                    'com/example/scanned/OrderCreated.java': provider('com.example.scanned', 'OrderCreated'),
+                    'com/example/scanned/PaymentReceived.java': consumer('com.example.scanned', 'PaymentReceived')])
+            def second = compile(false, [
+                    'com/example/scanned/OrderShipped.java': provider('com.example.scanned', 'OrderShipped'),
+                    'com/example/scanned/PaymentRefunded.java': consumer('com.example.scanned', 'PaymentRefunded')])
+
+        and: 'extractors scanning with single and many threads'
+            def singleThreadExtractor = new RepresentationExtractor(
+                    new SchemaCache(serializer), 1, MoreExecutors.directExecutor())
+            def parallelExtractor = new RepresentationExtractor(
+                    new SchemaCache(serializer), 4, MoreExecutors.directExecutor())
+
+        when: 'Service representation is extracted by both extractors'
+            def urls = withContextClassLoader([first, second]) {
+                ConfigurationBuilder.build('com.example.scanned').urls
+            }
+            def scanned = withContextClassLoader([first, second]) {
+                singleThreadExtractor.extractServiceRepresentation('com.example.scanned', 'service', new Properties())
+            }
+            def parallelScanned = withContextClassLoader([first, second]) {
+                parallelExtractor.extractServiceRepresentation('com.example.scanned', 'service', new Properties())
+            }
+
+        then: 'Package is scanned in many locations'
+            urls.size() == 2
+
+        and: 'Representations are the same'
+            scanned.capabilities.contracts*.message*.id == ['OrderCreated', 'OrderShipped']
+            parallelScanned.capabilities.contracts == scanned.capabilities.contracts
+            parallelScanned.expectations.providerNameToContracts.entries().asList() ==
+                    scanned.expectations.providerNameToContracts.entries().asList()
+            scanned.expectations.providerNameToContracts.get('payments').size() == 2
+
+        cleanup:
+            first.toFile().deleteDir()
+            second.toFile().deleteDir()
+    }
+
+    private static Path compile(boolean indexed, Map<String, String> sources) {
+        def sourceDirectory = Files.createTempDirectory('vaunt-sources')
+        def classes = Files.createTempDirectory('vaunt-classes')
+        sources.each { path, content ->
+            def file = sourceDirectory.resolve(path)
+            Files.createDirectories(file.parent)
+            file.text = content
+        }
+
+        def compiler = ToolProvider.systemJavaCompiler
+        def fileManager = compiler.getStandardFileManager(null, null, null)
+        def files = sources.keySet().collect { sourceDirectory.resolve(it).toFile() }
+        def classpath = [Provider, DestinationType].collect { Paths.get(it.protectionDomain.codeSource.location.toURI()) }
+        def options = ['-d', classes.toString(), '-classpath', classpath.join(File.pathSeparator), '-Avaunt.index=true']
+
+        def task = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files))
+        task.processors = indexed ? [new ContractIndexProcessor()] : []
+
+        try {
+            assert task.call()
+            return classes
+        } finally {
+            fileManager.close()
+            sourceDirectory.toFile().deleteDir()
+        }
+    }
+
+    private static String provider(String packageName, String className) {
+        """package ${packageName};
+
+        @com.hltech.vaunt.generator.domain.representation.annotation.Provider(
+                destinationType = com.hltech.vaunt.core.domain.model.DestinationType.QUEUE, destinationName = "orders")
+        public class ${className} {
+            public long value;
+        }
+        """
+    }
+
+    private static String consumer(String packageName, String className) {
+        """package ${packageName};
+
+        @com.hltech.vaunt.generator.domain.representation.annotation.Consumer(providerName = "payments",
+                destinationType = com.hltech.vaunt.core.domain.model.DestinationType.QUEUE, destinationName = "paid")
+        public class ${className} {
+            public String value;
+        }
+        """
+    }
+
+    private static <T> T withContextClassLoader(List<Path> classes, Closure<T> action) {
+        def thread = Thread.currentThread()
+        def original = thread.contextClassLoader
+        thread.contextClassLoader = new URLClassLoader(classes*.toUri()*.toURL() as URL[], original)
+        try {
+            return action()
+        } finally {
+            thread.contextClassLoader = original
+        }
+    }
+
+    private static <T> T withSystemProperty(String name, String value, Closure<T> action) {
+        System.setProperty(name, value)
+        try {
+            return action()
+        } finally {
+            System.clearProperty(name)
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.hltech.vaunt.generator.domain.representation
 
 import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.SchemaLayout
+import com.hltech.vaunt.core.SerializationFormat
 import com.hltech.vaunt.core.VauntSerializer
 import com.hltech.vaunt.core.domain.model.Capabilities
 import com.hltech.vaunt.core.domain.model.Contract
@@ -11,7 +13,9 @@ import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.nio.file.Files
 import java.nio.file.Paths
+import java.nio.file.attribute.FileTime
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.isJson
@@ -89,6 +93,87 @@ class RepresentationWriterUT extends Specification {
 
     }
 
+    def 'should not rewrite service representation when content did not change'() {
+        given:
+            def targetDir = './build/tmp/test/unchanged/dir'
+            def service = new Service(
+                    'unchanged-service',
+                    new Capabilities([queue('request_for_information_queue', RequestMessage)]),
+                    new Expectations(ArrayListMultimap.create()))
+
+        and:
+            def targetFile = Paths.get(targetDir).resolve('unchanged-service.json')
+            Files.deleteIfExists(targetFile)
+
+        expect:
+            writer.writeServiceRepresentationIfChanged(service, targetDir)
+
+        when:
+            Files.setLastModifiedTime(targetFile, FileTime.fromMillis(0))
+            def written = writer.writeServiceRepresentationIfChanged(service, targetDir)
+
+        then:
+            !written
+            Files.getLastModifiedTime(targetFile) == FileTime.fromMillis(0)
+    }
+
+    def 'should atomically replace service representation when content changed'() {
+        given:
+            def targetDir = './build/tmp/test/changed/dir'
+            def capabilities = new Capabilities([queue('request_for_information_queue', RequestMessage)])
+            def expectations = new Expectations(ArrayListMultimap.create())
+
+        and:
+            writer.writeServiceRepresentation(new Service('changed-service', capabilities, expectations), targetDir)
+
+        when:
+            capabilities.contracts.add(topic('something_changed_topic', ChangedEvent))
+            def written = writer.writeServiceRepresentationIfChanged(new Service('changed-service', capabilities, expectations), targetDir)
+
+        then:
+            written
+            def content = Paths.get(targetDir).resolve('changed-service.json').toFile().text
+            expect content, hasJsonPath('$.capabilities.contracts', hasSize(2))
+            Files.list(Paths.get(targetDir)).withCloseable { files -> files.count() } == 1
+    }
+
+    def 'should write service representation in smile format'() {
+        given:
+            def targetDir = './build/tmp/test/smile/dir'
+            def service = new Service(
+                    'smile-service',
+                    new Capabilities([queue('request_for_information_queue', RequestMessage)]),
+                    new Expectations(ArrayListMultimap.create()))
+
+        when:
+            new RepresentationWriter(serializer, SerializationFormat.SMILE).writeServiceRepresentation(service, targetDir)
+
+        then:
+            serializer.readServiceDefinition(Paths.get(targetDir).resolve('smile-service.smile').toFile()) == service
+    }
+
+    def 'should write reused nested schemas once in shared definitions layout'() {
+        given:
+            def targetDir = './build/tmp/test/shared/dir'
+            def service = new Service(
+                    'shared-service',
+                    new Capabilities([queue('order_queue', OrderMessage), queue('return_queue', ReturnMessage)]),
+                    new Expectations(ArrayListMultimap.create()))
+
+        when:
+            new RepresentationWriter(serializer, SerializationFormat.JSON, SchemaLayout.SHARED_DEFINITIONS)
+                    .writeServiceRepresentation(service, targetDir)
+
+        then:
+            def content = Paths.get(targetDir).resolve('shared-service.json').toFile().text
+            expect content, hasJsonPath('$.definitions.Address.properties.street.type', equalTo('string'))
+            expect content, hasJsonPath('$.capabilities.contracts[0].message.properties.billing[\'$ref\']', equalTo('#/definitions/Address'))
+            expect content, hasJsonPath('$.capabilities.contracts[1].message.properties.pickup[\'$ref\']', equalTo('#/definitions/Address'))
+
+        and:
+            serializer.readServiceDefinition(Paths.get(targetDir).resolve('shared-service.json')).definitions.keySet() == ['Address'] as Set
+    }
+
     private Contract topic(String topicName, Class<?> schemaClass) {
         contract(DestinationType.TOPIC, topicName, schemaClass)
     }
@@ -121,4 +206,17 @@ class RepresentationWriterUT extends Specification {
     class ChangedEvent {
         long timestamp
     }
+
+    class Address {
+        String street
+    }
+
+    class OrderMessage {
+        Address billing
+        Address shipping
+    }
+
+    class ReturnMessage {
+        Address pickup
+    }
 }
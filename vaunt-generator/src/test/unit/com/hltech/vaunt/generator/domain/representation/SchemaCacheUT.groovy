@@ -0,0 +1,63 @@
+package com.hltech.vaunt.generator.domain.representation
+
+import com.hltech.vaunt.core.VauntSerializer
+import com.hltech.vaunt.generator.domain.representation.message.poliannotated.SampleConsumerMessage
+import com.hltech.vaunt.generator.domain.representation.message.poliannotated.SampleProviderMessage
+import spock.lang.Specification
+import spock.lang.Subject
+
+class SchemaCacheUT extends Specification {
+
+    def serializer = Spy(VauntSerializer)
+
+    @Subject
+    SchemaCache schemaCache = new SchemaCache(serializer)
+
+    def 'Should generate schema once per class'() {
+        when:
+            def first = schemaCache.generateSchema(SampleProviderMessage)
+            def second = schemaCache.generateSchema(SampleProviderMessage)
+            def another = schemaCache.generateSchema(SampleConsumerMessage)
+
+        then:
+            1 * serializer.generateSchema(SampleProviderMessage)
+            1 * serializer.generateSchema(SampleConsumerMessage)
+            !first.is(second)
+            first == second
+            first == new VauntSerializer().generateSchema(SampleProviderMessage)
+            another == new VauntSerializer().generateSchema(SampleConsumerMessage)
+            schemaCache.size() == 2
+    }
+
+    def 'Should customize id on a copy of cached schema'() {
+        given:
+            def schema = schemaCache.generateSchema(SampleProviderMessage)
+
+        when:
+            def customized = schemaCache.withId(schema, 'customId')
+
+        then:
+            customized.id == 'customId'
+            schema.id == 'SampleProviderMessage'
+            schemaCache.generateSchema(SampleProviderMessage).id == 'SampleProviderMessage'
+            !customized.asObjectSchema().properties.is(schema.asObjectSchema().properties)
+            customized.asObjectSchema().properties.every { name, property ->
+                property.is(schema.asObjectSchema().properties[name])
+            }
+            customized == new VauntSerializer().generateSchema(SampleProviderMessage)
+    }
+
+    def 'Should not let changes of returned root schema leak into cached schema'() {
+        given:
+            def schema = schemaCache.generateSchema(SampleProviderMessage)
+            def customized = schemaCache.withId(schema, 'customId')
+
+        when:
+            schema.asObjectSchema().properties.clear()
+            schema.description = 'changed'
+            customized.asObjectSchema().properties.remove(customized.asObjectSchema().properties.keySet().first())
+
+        then:
+            schemaCache.generateSchema(SampleProviderMessage) == new VauntSerializer().generateSchema(SampleProviderMessage)
+    }
+}
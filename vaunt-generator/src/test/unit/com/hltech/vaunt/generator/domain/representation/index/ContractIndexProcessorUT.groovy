@@ -0,0 +1,126 @@
+package com.hltech.vaunt.generator.domain.representation.index
+
+import com.hltech.vaunt.core.domain.model.DestinationType
+import com.hltech.vaunt.generator.domain.representation.annotation.Provider
+import spock.lang.Specification
+
+import javax.tools.ToolProvider
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+class ContractIndexProcessorUT extends Specification {
+
+    Path sources = Files.createTempDirectory('vaunt-sources')
+
+    Path classes = Files.createTempDirectory('vaunt-classes')
+
+    def cleanup() {
+        sources.toFile().deleteDir()
+        classes.toFile().deleteDir()
+    }
+
+    def 'Should write sorted binary names of annotated types to contract index during compilation'() {
+        given:
+            source('com/example/OrderCreated.java', '''
+                    package com.example;
+
+                    import com.hltech.vaunt.core.domain.model.DestinationType;
+                    import com.hltech.vaunt.generator.domain.representation.annotation.Provider;
+
+                    @Provider(destinationType = DestinationType.QUEUE, destinationName = "orders")
+                    @Provider(destinationType = DestinationType.TOPIC, destinationName = "events")
+                    public class OrderCreated {
+                    }
+                    ''')
+            source('com/example/Billing.java', '''
+                    package com.example;
+
+                    import com.hltech.vaunt.core.domain.model.DestinationType;
+                    import com.hltech.vaunt.generator.domain.representation.annotation.Consumer;
+
+                    public class Billing {
+                        @Consumer(providerName = "payments", destinationType = DestinationType.QUEUE, destinationName = "paid")
+                        public static class PaymentReceived {
+                        }
+                    }
+                    ''')
+            source('com/example/Plain.java', '''
+                    package com.example;
+
+                    public class Plain {
+                    }
+                    ''')
+
+        when:
+            def compiled = compile()
+
+        then:
+            compiled
+            classes.resolve(ContractIndex.LOCATION).readLines() == [
+                    'com.example.Billing$PaymentReceived',
+                    'com.example.OrderCreated'
+            ]
+    }
+
+    def 'Should not write contract index when no type is annotated'() {
+        given:
+            source('com/example/Plain.java', '''
+                    package com.example;
+
+                    public class Plain {
+                    }
+                    ''')
+
+        when:
+            def compiled = compile()
+
+        then:
+            compiled
+            !Files.exists(classes.resolve(ContractIndex.LOCATION))
+    }
+
+    def 'Should not write contract index when processor is not enabled'() {
+        given:
+            source('com/example/OrderCreated.java', '''
+                    package com.example;
+
+                    import com.hltech.vaunt.core.domain.model.DestinationType;
+                    import com.hltech.vaunt.generator.domain.representation.annotation.Provider;
+
+                    @Provider(destinationType = DestinationType.QUEUE, destinationName = "orders")
+                    public class OrderCreated {
+                    }
+                    ''')
+
+        when:
+            def compiled = compile([])
+
+        then:
+            compiled
+            !Files.exists(classes.resolve(ContractIndex.LOCATION))
+    }
+
+    private void source(String path, String content) {
+        def file = sources.resolve(path)
+        Files.createDirectories(file.parent)
+        file.text = content.stripIndent()
+    }
+
+    private boolean compile(List<String> processorOptions = ['-Avaunt.index=true']) {
+        def compiler = ToolProvider.systemJavaCompiler
+        def fileManager = compiler.getStandardFileManager(null, null, null)
+        def files = Files.walk(sources).withCloseable { paths -> paths.findAll { it.toString().endsWith('.java') }*.toFile() }
+        def classpath = [Provider, DestinationType].collect { Paths.get(it.protectionDomain.codeSource.location.toURI()) }
+        def options = ['-d', classes.toString(), '-classpath', classpath.join(File.pathSeparator)] + processorOptions
+
+        def task = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files))
+        task.processors = [new ContractIndexProcessor()]
+
+        try {
+            return task.call()
+        } finally {
+            fileManager.close()
+        }
+    }
+}
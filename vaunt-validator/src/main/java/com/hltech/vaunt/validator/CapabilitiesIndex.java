@@ -0,0 +1,73 @@
+package com.hltech.vaunt.validator;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MapMaker;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import com.hltech.vaunt.validator.schema.CompiledSchema;
+import com.hltech.vaunt.validator.schema.SchemaReferences;
+import com.hltech.vaunt.validator.schema.SchemaValidator;
+import lombok.Value;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+class CapabilitiesIndex {
+
+    private final Map<Endpoint, ListMultimap<String, Contract>> endpointToContracts = new HashMap<>();
+    private final ListMultimap<String, Contract> temporaryQueueContracts = ArrayListMultimap.create();
+    private final ConcurrentMap<Contract, CompiledSchema> compiledSchemas = new MapMaker().weakKeys().makeMap();
+    private final SchemaReferences references;
+
+    private CapabilitiesIndex(List<Contract> capabilities, SchemaReferences references) {
+        this.references = references;
+        capabilities.forEach(this::add);
+    }
+
+    static CapabilitiesIndex of(List<Contract> capabilities) {
+        return of(capabilities, SchemaReferences.NONE);
+    }
+
+    static CapabilitiesIndex of(List<Contract> capabilities, SchemaReferences references) {
+        return new CapabilitiesIndex(capabilities, references);
+    }
+
+    ListMultimap<String, Contract> findEndpointContracts(Contract consumerContract) {
+        if (consumerContract.getDestinationType() == DestinationType.TEMPORARY_QUEUE) {
+            return temporaryQueueContracts;
+        }
+
+        return endpointToContracts.getOrDefault(Endpoint.of(consumerContract), ImmutableListMultimap.of());
+    }
+
+    CompiledSchema compiledSchema(Contract providerContract) {
+        return compiledSchemas.computeIfAbsent(
+                providerContract, contract -> SchemaValidator.compile(contract.getMessage(), references));
+    }
+
+    private void add(Contract providerContract) {
+        String messageId = providerContract.getMessageId();
+
+        if (providerContract.getDestinationType() == DestinationType.TEMPORARY_QUEUE) {
+            temporaryQueueContracts.put(messageId, providerContract);
+        } else {
+            endpointToContracts
+                    .computeIfAbsent(Endpoint.of(providerContract), endpoint -> ArrayListMultimap.create())
+                    .put(messageId, providerContract);
+        }
+    }
+
+    @Value
+    private static class Endpoint {
+        private final DestinationType destinationType;
+        private final String destinationName;
+
+        static Endpoint of(Contract contract) {
+            return new Endpoint(contract.getDestinationType(), contract.getDestinationName());
+        }
+    }
+}
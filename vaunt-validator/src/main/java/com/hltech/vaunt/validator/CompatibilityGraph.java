@@ -0,0 +1,52 @@
+package com.hltech.vaunt.validator;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK;
+
+public class CompatibilityGraph {
+
+    private final Map<Edge, List<ValidationResult>> edgeToResults;
+
+    CompatibilityGraph(Map<Edge, List<ValidationResult>> edgeToResults) {
+        this.edgeToResults = ImmutableMap.copyOf(edgeToResults);
+    }
+
+    public Map<Edge, List<ValidationResult>> getEdges() {
+        return edgeToResults;
+    }
+
+    public List<ValidationResult> getResults(String consumer, String provider) {
+        return edgeToResults.getOrDefault(new Edge(consumer, provider), Collections.emptyList());
+    }
+
+    public Map<Edge, List<ValidationResult>> getIncompatibleEdges() {
+        return ImmutableMap.copyOf(Maps.filterValues(edgeToResults, results -> !isCompatible(results)));
+    }
+
+    public boolean isCompatible() {
+        return edgeToResults.values().stream().allMatch(this::isCompatible);
+    }
+
+    private boolean isCompatible(List<ValidationResult> results) {
+        return results.stream().allMatch(result -> result.getResult() == OK);
+    }
+
+    @Value
+    public static class Edge implements Comparable<Edge> {
+        private final String consumer;
+        private final String provider;
+
+        @Override
+        public int compareTo(Edge other) {
+            int byConsumer = consumer.compareTo(other.consumer);
+            return byConsumer != 0 ? byConsumer : provider.compareTo(other.provider);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.hltech.vaunt.validator;
+
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SetMultimap;
+import com.hltech.vaunt.core.LoadedServices;
+import com.hltech.vaunt.core.ServiceDefinitionLoader;
+import com.hltech.vaunt.core.VauntSerializationException;
+import com.hltech.vaunt.core.VauntSerializer;
+import com.hltech.vaunt.core.domain.model.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CompatibilityWatcher implements Closeable {
+
+    private static final String DEFAULT_GLOB = "*.{json,smile}";
+
+    private final Path directory;
+    private final String glob;
+    private final PathMatcher matcher;
+    private final boolean recursive;
+    private final VauntValidator validator;
+    private final VauntSerializer serializer;
+    private final WatchService watchService;
+
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, Service> pathToService = new HashMap<>();
+    private final SetMultimap<String, Path> serviceNameToPaths = MultimapBuilder.hashKeys().treeSetValues().build();
+    private final Map<String, Path> activePaths = new HashMap<>();
+    private final Map<String, Service> services = new HashMap<>();
+    private final SetMultimap<String, String> providerToConsumers = MultimapBuilder.hashKeys().treeSetValues().build();
+    private final Map<CompatibilityGraph.Edge, List<ValidationResult>> edgeToResults = new TreeMap<>();
+    private final Map<Path, RuntimeException> failures = new TreeMap<>();
+
+    public CompatibilityWatcher(Path directory) {
+        this(directory, DEFAULT_GLOB, new VauntValidator(), new VauntSerializer());
+    }
+
+    public CompatibilityWatcher(Path directory, String glob, VauntValidator validator, VauntSerializer serializer) {
+        this.directory = directory;
+        this.glob = glob;
+        this.matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        this.recursive = glob.contains("**") || glob.contains("/");
+        this.validator = validator;
+        this.serializer = serializer;
+        try {
+            this.watchService = directory.getFileSystem().newWatchService();
+        } catch (IOException ex) {
+            throw new VauntValidationException("Unable to watch directory: " + directory.toAbsolutePath(), ex);
+        }
+    }
+
+    public synchronized CompatibilityGraph start() {
+        register(directory);
+        return reload();
+    }
+
+    public synchronized CompatibilityGraph getGraph() {
+        return new CompatibilityGraph(edgeToResults);
+    }
+
+    public synchronized Map<Path, RuntimeException> getFailures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    public Optional<CompatibilityGraph> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        WatchKey key = watchService.poll(timeout, unit);
+        return key == null ? Optional.empty() : Optional.of(process(key));
+    }
+
+    public void watch(Consumer<CompatibilityGraph> onChange) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                onChange.accept(process(watchService.take()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            return;
+        }
+    }
+
+    public synchronized CompatibilityGraph update(Path path) {
+        Set<Path> files = new TreeSet<>();
+        files.add(path);
+        Stream.concat(pathToService.keySet().stream(), failures.keySet().stream())
+                .filter(file -> file.startsWith(path))
+                .forEach(files::add);
+
+        Set<String> changedServices = new TreeSet<>();
+        for (Path file : files) {
+            updateFile(file).stream()
+                    .filter(this::resolve)
+                    .forEach(changedServices::add);
+        }
+        changedServices.forEach(this::revalidate);
+
+        return getGraph();
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private CompatibilityGraph process(WatchKey key) {
+        Set<Path> changedFiles = new LinkedHashSet<>();
+        boolean overflow = false;
+        Path watchedDirectory;
+
+        synchronized (this) {
+            watchedDirectory = watchedDirectories.get(key);
+        }
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || watchedDirectory == null) {
+                overflow = true;
+            } else {
+                Path changed = watchedDirectory.resolve((Path) event.context());
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                    if (recursive) {
+                        synchronized (this) {
+                            changedFiles.addAll(register(changed));
+                        }
+                    }
+                } else {
+                    changedFiles.add(changed);
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            synchronized (this) {
+                watchedDirectories.remove(key);
+            }
+        }
+
+        if (overflow) {
+            synchronized (this) {
+                return reload();
+            }
+        }
+
+        changedFiles.forEach(this::update);
+        return getGraph();
+    }
+
+    private List<Path> register(Path root) {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root, recursive ? Integer.MAX_VALUE : 0)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                if (Files.isDirectory(path)) {
+                    WatchKey key = path.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                    watchedDirectories.put(key, path);
+                } else {
+                    files.add(path);
+                }
+            }
+        } catch (IOException ex) {
+            throw new VauntValidationException("Unable to watch directory: " + root.toAbsolutePath(), ex);
+        }
+        return files;
+    }
+
+    private CompatibilityGraph reload() {
+        pathToService.clear();
+        serviceNameToPaths.clear();
+        activePaths.clear();
+        services.clear();
+        providerToConsumers.clear();
+        edgeToResults.clear();
+        failures.clear();
+
+        LoadedServices loaded = new ServiceDefinitionLoader(serializer, ForkJoinPool.commonPool())
+                .load(directory, glob);
+        failures.putAll(loaded.getFailures());
+
+        loaded.getPathToService().forEach(this::track);
+        new ArrayList<>(serviceNameToPaths.keySet()).forEach(this::resolve);
+        edgeToResults.putAll(validator.validateAll(services.values()).getEdges());
+
+        return getGraph();
+    }
+
+    private boolean isServiceFile(Path file) {
+        return Files.isRegularFile(file) && matcher.matches(directory.relativize(file));
+    }
+
+    private Optional<Service> readService(Path file) {
+        try {
+            return Optional.of(serializer.readServiceDefinition(file));
+        } catch (VauntSerializationException ex) {
+            failures.put(file, ex);
+            return Optional.empty();
+        }
+    }
+
+    private VauntValidationException duplicatedName(String name) {
+        return new VauntValidationException("Service names must be unique, duplicated: " + name);
+    }
+
+    private Set<String> updateFile(Path file) {
+        Set<String> names = new LinkedHashSet<>();
+        failures.remove(file);
+
+        Service previous = pathToService.remove(file);
+        if (previous != null) {
+            serviceNameToPaths.remove(previous.getName(), file);
+            names.add(previous.getName());
+        }
+
+        if (isServiceFile(file)) {
+            readService(file).ifPresent(service -> {
+                track(file, service);
+                names.add(service.getName());
+            });
+        }
+        return names;
+    }
+
+    private void track(Path file, Service service) {
+        pathToService.put(file, service);
+        serviceNameToPaths.put(service.getName(), file);
+    }
+
+    private boolean resolve(String name) {
+        Set<Path> candidates = serviceNameToPaths.get(name);
+        Path active = activePaths.get(name);
+        if (active == null || !candidates.contains(active)) {
+            active = candidates.isEmpty() ? null : candidates.iterator().next();
+        }
+
+        for (Path candidate : candidates) {
+            if (!candidate.equals(active)) {
+                failures.put(candidate, duplicatedName(name));
+            }
+        }
+
+        Service current = null;
+        if (active == null) {
+            activePaths.remove(name);
+        } else {
+            activePaths.put(name, active);
+            failures.remove(active);
+            current = pathToService.get(active);
+        }
+
+        Service previous = services.get(name);
+        if (previous == current) {
+            return false;
+        }
+
+        if (previous != null) {
+            services.remove(name);
+            providerNames(previous).forEach(providerName -> providerToConsumers.remove(providerName, name));
+        }
+        if (current != null) {
+            services.put(name, current);
+            providerNames(current).forEach(providerName -> providerToConsumers.put(providerName, name));
+        }
+        return true;
+    }
+
+    private Set<String> providerNames(Service consumer) {
+        return consumer.getExpectations() == null
+                ? Collections.emptySet()
+                : consumer.getExpectations().getProviderNameToContracts().keySet();
+    }
+
+    private void revalidate(String name) {
+        edgeToResults.keySet().removeIf(edge -> edge.getConsumer().equals(name));
+
+        Service service = services.get(name);
+        if (service != null) {
+            for (String providerName : providerNames(service)) {
+                revalidate(service, providerName);
+            }
+        }
+
+        for (String consumerName : providerToConsumers.get(name)) {
+            revalidate(services.get(consumerName), name);
+        }
+    }
+
+    private void revalidate(Service consumer, String providerName) {
+        edgeToResults.put(
+                new CompatibilityGraph.Edge(consumer.getName(), providerName),
+                validator.validate(consumer, providerName, services.get(providerName)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.hltech.vaunt.validator;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaPath {
+    private static final SchemaPath ROOT = new SchemaPath(null, null);
+
+    private final String property;
+    private final SchemaPath rest;
+
+    public static SchemaPath root() {
+        return ROOT;
+    }
+
+    public SchemaPath prepend(String property) {
+        return new SchemaPath(property, this);
+    }
+
+    public boolean isRoot() {
+        return this == ROOT;
+    }
+
+    public List<String> getProperties() {
+        List<String> properties = new ArrayList<>();
+        for (SchemaPath path = this; !path.isRoot(); path = path.rest) {
+            properties.add(path.property);
+        }
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("$");
+        getProperties().forEach(property -> builder.append('.').append(property));
+        return builder.toString();
+    }
+}
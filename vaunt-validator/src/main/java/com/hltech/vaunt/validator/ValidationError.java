@@ -0,0 +1,128 @@
+package com.hltech.vaunt.validator;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ValidationError {
+    private final Kind kind;
+    private final String schemaId;
+    private final String keyword;
+    private final Object consumerValue;
+    private final Object providerValue;
+    private final SchemaPath path;
+
+    public static ValidationError notMatching(String schemaId, String keyword,
+                                              Object consumerValue, Object providerValue) {
+        return new ValidationError(Kind.NOT_MATCHING_VALUE, schemaId, keyword, consumerValue, providerValue,
+                SchemaPath.root());
+    }
+
+    public static ValidationError notMatching(String schemaId, String keyword) {
+        return new ValidationError(Kind.NOT_MATCHING_KEYWORD, schemaId, keyword, null, null, SchemaPath.root());
+    }
+
+    public static ValidationError notMatchingProperties(String schemaId, Set<String> consumerProperties,
+                                                        Set<String> providerProperties) {
+        return new ValidationError(Kind.NOT_MATCHING_PROPERTIES, schemaId, "properties",
+                consumerProperties, providerProperties, SchemaPath.root());
+    }
+
+    public static ValidationError notMatchingType(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return new ValidationError(Kind.NOT_MATCHING_TYPE, consumerSchema.getId(), "type",
+                consumerSchema, providerSchema, SchemaPath.root());
+    }
+
+    public static ValidationError missingEndpoint(String schemaId) {
+        return new ValidationError(Kind.MISSING_ENDPOINT, schemaId, null, null, null, SchemaPath.root());
+    }
+
+    public static ValidationError missingMessageWithId(String schemaId) {
+        return new ValidationError(Kind.MISSING_MESSAGE_WITH_ID, schemaId, null, null, null, SchemaPath.root());
+    }
+
+    public static ValidationError multipleMatch(String schemaId) {
+        return new ValidationError(Kind.MULTIPLE_MATCH, schemaId, null, null, null, SchemaPath.root());
+    }
+
+    public static ValidationError message(String message) {
+        return new ValidationError(Kind.MESSAGE, null, null, message, null, SchemaPath.root());
+    }
+
+    public ValidationError nested(String property) {
+        return new ValidationError(kind, schemaId, keyword, consumerValue, providerValue, path.prepend(property));
+    }
+
+    public String getMessage() {
+        switch (kind) {
+            case NOT_MATCHING_TYPE:
+                JsonSchema consumerSchema = (JsonSchema) consumerValue;
+                JsonSchema providerSchema = (JsonSchema) providerValue;
+                return String.format(kind.format,
+                        consumerSchema.getId(),
+                        consumerSchema.getClass().getSimpleName(),
+                        providerSchema.getId(),
+                        providerSchema.getClass().getSimpleName());
+            case NOT_MATCHING_VALUE:
+            case NOT_MATCHING_KEYWORD:
+            case NOT_MATCHING_PROPERTIES:
+                return String.format(kind.format, schemaId, keyword, render(consumerValue), render(providerValue));
+            case MESSAGE:
+                return String.format(kind.format, consumerValue);
+            default:
+                return kind.format;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+    private static String render(Object value) {
+        if (value instanceof JsonSchema) {
+            return "JsonSchema(id=" + ((JsonSchema) value).getId() + ")";
+        }
+
+        if (value instanceof JsonSchema[]) {
+            return Arrays.stream((JsonSchema[]) value)
+                    .map(ValidationError::render)
+                    .collect(Collectors.joining(", ", "[", "]"));
+        }
+
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).entrySet().stream()
+                    .map(e -> e.getKey() + "=" + render(e.getValue()))
+                    .collect(Collectors.joining(", ", "{", "}"));
+        }
+
+        return String.valueOf(value);
+    }
+
+    public enum Kind {
+        NOT_MATCHING_VALUE("Schema with id %s has not matching %s - consumer: %s, provider: %s"),
+        NOT_MATCHING_KEYWORD("Schema with id %s has not matching %s"),
+        NOT_MATCHING_PROPERTIES("Schema with id %s has not matching %s - "
+                + "consumer: ids of properties: %s, provider: ids of properties: %s"),
+        NOT_MATCHING_TYPE(
+                "Consumer schema with id %s and type %s does not match provider schema with id %s and type %s"),
+        MISSING_ENDPOINT("Missing endpoint required by consumer"),
+        MISSING_MESSAGE_WITH_ID("Missing message with given id required by consumer"),
+        MULTIPLE_MATCH("More than one message with the same id for given endpoint"),
+        MESSAGE("%s");
+
+        private final String format;
+
+        Kind(String format) {
+            this.format = format;
+        }
+    }
+}
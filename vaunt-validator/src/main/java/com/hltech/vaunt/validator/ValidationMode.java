@@ -0,0 +1,6 @@
+package com.hltech.vaunt.validator;
+
+public enum ValidationMode {
+    ALL,
+    FAIL_FAST
+}
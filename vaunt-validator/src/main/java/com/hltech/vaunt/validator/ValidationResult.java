@@ -1,12 +1,14 @@
 package com.hltech.vaunt.validator;
 
 import com.google.common.collect.Lists;
+import com.hltech.vaunt.core.domain.model.Contract;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED;
 import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK;
@@ -15,19 +17,43 @@ import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ValidationResult {
     private final String name;
+    private final Contract contract;
     private final ValidationStatus result;
-    private final List<String> errors;
+    private final List<ValidationError> validationErrors;
 
+    public static ValidationResult success(Contract contract) {
+        return new ValidationResult(contract.toString(), contract, OK, new ArrayList<>());
+    }
+
+    @Deprecated
     public static ValidationResult success(String name) {
-        return new ValidationResult(name, OK, new ArrayList<>());
+        return new ValidationResult(name, null, OK, new ArrayList<>());
+    }
+
+    public static ValidationResult failure(Contract contract, ValidationError error) {
+        return new ValidationResult(contract.toString(), contract, FAILED, Lists.newArrayList(error));
     }
 
+    public static ValidationResult failure(Contract contract, List<ValidationError> errors) {
+        return new ValidationResult(contract.toString(), contract, FAILED, errors);
+    }
+
+    @Deprecated
     public static ValidationResult failure(String name, String error) {
-        return new ValidationResult(name, FAILED, Lists.newArrayList(error));
+        return new ValidationResult(name, null, FAILED, Lists.newArrayList(ValidationError.message(error)));
     }
 
+    @Deprecated
     public static ValidationResult failure(String name, List<String> errors) {
-        return new ValidationResult(name, FAILED, errors);
+        return new ValidationResult(name, null, FAILED, errors.stream()
+                .map(ValidationError::message)
+                .collect(Collectors.toList()));
+    }
+
+    public List<String> getErrors() {
+        return validationErrors.stream()
+                .map(ValidationError::getMessage)
+                .collect(Collectors.toList());
     }
 
     public enum ValidationStatus {
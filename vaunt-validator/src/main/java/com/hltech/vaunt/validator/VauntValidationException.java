@@ -5,4 +5,8 @@ public class VauntValidationException extends RuntimeException {
     public VauntValidationException(String message) {
         super(message);
     }
+
+    public VauntValidationException(String message, Throwable reason) {
+        super(message, reason);
+    }
 }
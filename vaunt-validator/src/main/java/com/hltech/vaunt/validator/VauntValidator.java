@@ -1,91 +1,224 @@
 package com.hltech.vaunt.validator;
 
-import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.collect.ListMultimap;
+import com.hltech.vaunt.core.VauntListener;
+import com.hltech.vaunt.core.VauntPhase;
 import com.hltech.vaunt.core.domain.model.Contract;
-import com.hltech.vaunt.core.domain.model.DestinationType;
 import com.hltech.vaunt.core.domain.model.Service;
+import com.hltech.vaunt.validator.schema.SchemaCompatibilityCache;
+import com.hltech.vaunt.validator.schema.SchemaReferences;
 import com.hltech.vaunt.validator.schema.SchemaValidator;
+import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+@RequiredArgsConstructor
 public class VauntValidator {
-    private static final String MISSING_ENDPOINT = "Missing endpoint required by consumer";
-    private static final String MISSING_MESSAGE_WITH_ID = "Missing message with given id required by consumer";
-    private static final String MULTIPLE_MATCH = "More than one message with the same id for given endpoint";
+
+    private static final CapabilitiesIndex EMPTY_CAPABILITIES = CapabilitiesIndex.of(Collections.emptyList());
+    private static final String COMPATIBILITY_CACHE = "schemaCompatibilityCache";
+
+    private final VauntListener listener;
+    private final ValidationMode mode;
+    private final SchemaCompatibilityCache cache;
+    private final int maxDepth;
+
+    public VauntValidator() {
+        this(VauntListener.NO_OP);
+    }
+
+    public VauntValidator(ValidationMode mode) {
+        this(VauntListener.NO_OP, mode);
+    }
+
+    public VauntValidator(VauntListener listener) {
+        this(listener, ValidationMode.ALL);
+    }
+
+    public VauntValidator(VauntListener listener, ValidationMode mode) {
+        this(listener, mode, null);
+    }
+
+    public VauntValidator(VauntListener listener, ValidationMode mode, SchemaCompatibilityCache cache) {
+        this(listener, mode, cache, SchemaValidator.DEFAULT_MAX_DEPTH);
+    }
 
     public List<ValidationResult> validate(Service consumer, Service provider) {
-        return consumer.getExpectations().getProviderNameToContracts().get(provider.getName()).stream()
-                .map(consumerContract -> validateWithMatchingProviderContract(
-                        consumerContract, provider.getCapabilities().getContracts()))
-                .collect(Collectors.toList());
+        List<ValidationResult> results = validate(
+                consumer.getExpectations().getProviderNameToContracts().get(provider.getName()),
+                references(consumer),
+                capabilitiesIndex(provider.getCapabilities().getContracts(), references(provider)));
+        reportCacheStats();
+
+        return results;
     }
 
     public List<ValidationResult> validate(List<Contract> expectations, List<Contract> capabilities) {
-        return expectations.stream()
-                .map(consumerContract -> validateWithMatchingProviderContract(consumerContract, capabilities))
-                .collect(Collectors.toList());
+        List<ValidationResult> results = validate(
+                expectations, SchemaReferences.NONE, capabilitiesIndex(capabilities, SchemaReferences.NONE));
+        reportCacheStats();
+
+        return results;
     }
 
-    private ValidationResult validateWithMatchingProviderContract(Contract consumerContract,
-                                                                  List<Contract> providerContracts) {
-        List<Contract> endpointMatchingContracts = providerContracts.stream()
-                .filter(providerContract -> isEndpointMatching(consumerContract, providerContract))
+    private List<ValidationResult> validate(Collection<Contract> expectations, SchemaReferences consumerReferences,
+                                            CapabilitiesIndex capabilities) {
+        return expectations.stream()
+                .map(consumerContract -> validateWithMatchingProviderContract(
+                        consumerContract, consumerReferences, capabilities))
                 .collect(Collectors.toList());
+    }
 
-        if (endpointMatchingContracts.isEmpty()) {
-            return ValidationResult.failure(
-                    consumerContract.toString(), MISSING_ENDPOINT);
-        }
+    List<ValidationResult> validate(Service consumer, String providerName, Service provider) {
+        return validate(
+                consumer.getExpectations().getProviderNameToContracts().get(providerName),
+                references(consumer),
+                provider == null ? EMPTY_CAPABILITIES : capabilitiesIndex(provider));
+    }
 
-        List<Contract> idMatchingContracts = endpointMatchingContracts.stream()
-                .filter(providerContract -> isIdMatching(consumerContract.getMessage(), providerContract.getMessage()))
-                .collect(Collectors.toList());
+    public boolean isCompatible(Service consumer, Service provider) {
+        return isCompatible(
+                consumer.getExpectations().getProviderNameToContracts().get(provider.getName()),
+                references(consumer),
+                capabilitiesIndex(provider));
+    }
 
-        if (idMatchingContracts.isEmpty()) {
-            return ValidationResult.failure(
-                    consumerContract.toString(),
-                    MISSING_MESSAGE_WITH_ID);
-        }
+    public boolean isCompatible(List<Contract> expectations, List<Contract> capabilities) {
+        return isCompatible(
+                expectations, SchemaReferences.NONE, capabilitiesIndex(capabilities, SchemaReferences.NONE));
+    }
 
-        if (idMatchingContracts.size() > 1) {
-            return ValidationResult.failure(
-                    consumerContract.toString(),
-                    MULTIPLE_MATCH);
+    private boolean isCompatible(Collection<Contract> expectations, SchemaReferences consumerReferences,
+                                 CapabilitiesIndex capabilities) {
+        for (Contract consumerContract : expectations) {
+            List<Contract> idMatchingContracts = capabilities.findEndpointContracts(consumerContract)
+                    .get(consumerContract.getMessageId());
+
+            if (idMatchingContracts.size() != 1 || !SchemaValidator.isCompatible(
+                    consumerContract.getMessage(), consumerReferences,
+                    capabilities.compiledSchema(idMatchingContracts.get(0)),
+                    cache, listener, maxDepth)) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        List<String> validationErrors =
-                validateSchema(consumerContract.getMessage(), idMatchingContracts.get(0).getMessage());
+    public CompatibilityGraph validateAll(Collection<Service> services) {
+        return validateAll(services, ForkJoinPool.commonPool());
+    }
 
-        return validationErrors.size() == 0
-                ? ValidationResult.success(consumerContract.toString())
-                : ValidationResult.failure(consumerContract.toString(), validationErrors);
+    public CompatibilityGraph validateAll(Collection<Service> services, Executor executor) {
+        Map<String, CapabilitiesIndex> providerToCapabilities = new HashMap<>();
+        Map<String, SchemaReferences> serviceToReferences = new HashMap<>();
+        services.forEach(service -> {
+            if (providerToCapabilities.put(service.getName(), capabilitiesIndex(service)) != null) {
+                throw new VauntValidationException("Service names must be unique, duplicated: " + service.getName());
+            }
+            serviceToReferences.put(service.getName(), references(service));
+        });
+
+        Map<CompatibilityGraph.Edge, CompletableFuture<List<ValidationResult>>> edgeToResults = new TreeMap<>();
+        services.stream()
+                .filter(consumer -> consumer.getExpectations() != null)
+                .forEach(consumer -> consumer.getExpectations().getProviderNameToContracts().asMap()
+                        .forEach((providerName, consumerContracts) -> edgeToResults.put(
+                                new CompatibilityGraph.Edge(consumer.getName(), providerName),
+                                CompletableFuture.supplyAsync(() -> validate(
+                                        consumerContracts,
+                                        serviceToReferences.get(consumer.getName()),
+                                        providerToCapabilities.getOrDefault(providerName, EMPTY_CAPABILITIES)),
+                                        executor))));
+
+        Map<CompatibilityGraph.Edge, List<ValidationResult>> results = new LinkedHashMap<>();
+        edgeToResults.forEach((edge, future) -> results.put(edge, join(future)));
+        reportCacheStats();
+
+        return new CompatibilityGraph(results);
     }
 
-    private boolean isEndpointMatching(Contract firstContract, Contract secondContract) {
-        return isTmpQueueMatching(firstContract, secondContract)
-                || (isDstTypeMatching(firstContract, secondContract)
-                && isDstNameMatching(firstContract, secondContract));
+    private CapabilitiesIndex capabilitiesIndex(Service provider) {
+        return provider.getCapabilities() == null
+                ? EMPTY_CAPABILITIES
+                : capabilitiesIndex(provider.getCapabilities().getContracts(), references(provider));
     }
 
-    private boolean isTmpQueueMatching(Contract firstContract, Contract secondContract) {
-        return firstContract.getDestinationType() == DestinationType.TEMPORARY_QUEUE
-                && isDstTypeMatching(firstContract, secondContract);
+    private CapabilitiesIndex capabilitiesIndex(List<Contract> capabilities, SchemaReferences references) {
+        long start = listener.nanoTime();
+        CapabilitiesIndex index = CapabilitiesIndex.of(capabilities, references);
+        listener.onPhase(VauntPhase.CAPABILITIES_INDEXING, capabilities.size(), listener.nanoTime() - start);
+
+        return index;
     }
 
-    private boolean isDstTypeMatching(Contract firstContract, Contract secondContract) {
-        return firstContract.getDestinationType() == secondContract.getDestinationType();
+    private SchemaReferences references(Service service) {
+        return SchemaReferences.of(service.getDefinitions());
     }
 
-    private boolean isDstNameMatching(Contract firstContract, Contract secondContract) {
-        return firstContract.getDestinationName().equals(secondContract.getDestinationName());
+    private void reportCacheStats() {
+        if (cache != null) {
+            listener.onCacheStats(COMPATIBILITY_CACHE, cache.getStats());
+        }
     }
 
-    private boolean isIdMatching(JsonSchema consumerBody, JsonSchema providerBody) {
-        return consumerBody.getId().equals(providerBody.getId());
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
     }
 
-    private List<String> validateSchema(JsonSchema consumerBody, JsonSchema providerBody) {
-        return SchemaValidator.validate(consumerBody, providerBody);
+    private ValidationResult validateWithMatchingProviderContract(Contract consumerContract,
+                                                                  SchemaReferences consumerReferences,
+                                                                  CapabilitiesIndex capabilities) {
+        long lookupStart = listener.nanoTime();
+        ListMultimap<String, Contract> endpointMatchingContracts =
+                capabilities.findEndpointContracts(consumerContract);
+        List<Contract> idMatchingContracts = endpointMatchingContracts.get(consumerContract.getMessageId());
+
+        long comparisonStart = listener.nanoTime();
+        listener.onPhase(VauntPhase.CONTRACT_LOOKUP, 1, comparisonStart - lookupStart);
+
+        if (endpointMatchingContracts.isEmpty()) {
+            return ValidationResult.failure(
+                    consumerContract, ValidationError.missingEndpoint(consumerContract.getMessageId()));
+        }
+
+        if (idMatchingContracts.isEmpty()) {
+            return ValidationResult.failure(
+                    consumerContract,
+                    ValidationError.missingMessageWithId(consumerContract.getMessageId()));
+        }
+
+        if (idMatchingContracts.size() > 1) {
+            return ValidationResult.failure(
+                    consumerContract,
+                    ValidationError.multipleMatch(consumerContract.getMessageId()));
+        }
+
+        List<ValidationError> validationErrors = SchemaValidator.findErrors(
+                consumerContract.getMessage(), consumerReferences,
+                capabilities.compiledSchema(idMatchingContracts.get(0)),
+                mode, cache, listener, maxDepth);
+        listener.onPhase(VauntPhase.SCHEMA_COMPARISON, 1, listener.nanoTime() - comparisonStart);
+
+        return validationErrors.size() == 0
+                ? ValidationResult.success(consumerContract)
+                : ValidationResult.failure(consumerContract, validationErrors);
     }
 }
@@ -0,0 +1,18 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+class AnyPayloadNode extends PayloadNode {
+
+    AnyPayloadNode(boolean required) {
+        super(required);
+    }
+
+    @Override
+    String validateValue(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+}
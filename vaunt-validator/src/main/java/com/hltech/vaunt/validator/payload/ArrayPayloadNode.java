@@ -0,0 +1,71 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema;
+
+import java.io.IOException;
+
+class ArrayPayloadNode extends PayloadNode {
+
+    private final Integer minItems;
+    private final Integer maxItems;
+    private final boolean additionalItemsAllowed;
+    private PayloadNode items;
+    private PayloadNode[] tupleItems;
+
+    ArrayPayloadNode(ArraySchema schema) {
+        super(Boolean.TRUE.equals(schema.getRequired()));
+        this.minItems = schema.getMinItems();
+        this.maxItems = schema.getMaxItems();
+        this.additionalItemsAllowed = !(schema.getAdditionalItems() instanceof ArraySchema.NoAdditionalItems);
+    }
+
+    void setItems(PayloadNode items) {
+        this.items = items;
+    }
+
+    void setTupleItems(PayloadNode[] tupleItems) {
+        this.tupleItems = tupleItems;
+    }
+
+    @Override
+    String validateValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return "Expected array";
+        }
+
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String error = validateItem(parser, size);
+            if (error != null) {
+                return error;
+            }
+            size++;
+        }
+
+        if (minItems != null && size < minItems) {
+            return "Array with less than " + minItems + " items";
+        }
+        if (maxItems != null && size > maxItems) {
+            return "Array with more than " + maxItems + " items";
+        }
+
+        return null;
+    }
+
+    private String validateItem(JsonParser parser, int index) throws IOException {
+        if (tupleItems == null) {
+            return items.validate(parser);
+        }
+        if (index < tupleItems.length) {
+            return tupleItems[index].validate(parser);
+        }
+        if (!additionalItemsAllowed) {
+            return "Unexpected array item";
+        }
+
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+class BooleanPayloadNode extends PayloadNode {
+
+    BooleanPayloadNode(boolean required) {
+        super(required);
+    }
+
+    @Override
+    String validateValue(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE ? null : "Expected boolean";
+    }
+}
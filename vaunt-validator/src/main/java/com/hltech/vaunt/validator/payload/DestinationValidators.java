@@ -0,0 +1,11 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import lombok.Value;
+
+@Value
+class DestinationValidators {
+    private final DestinationType destinationType;
+    private final String destinationName;
+    private final PayloadValidator[] validators;
+}
@@ -0,0 +1,55 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.NumberSchema;
+
+import java.io.IOException;
+
+class NumberPayloadNode extends PayloadNode {
+
+    private final boolean integer;
+    private final Double minimum;
+    private final Double maximum;
+    private final boolean exclusiveMinimum;
+    private final boolean exclusiveMaximum;
+    private final long divisibleBy;
+
+    NumberPayloadNode(NumberSchema schema) {
+        super(Boolean.TRUE.equals(schema.getRequired()));
+        this.integer = schema instanceof IntegerSchema;
+        this.minimum = schema.getMinimum();
+        this.maximum = schema.getMaximum();
+        this.exclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+        this.exclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+        this.divisibleBy = integer && ((IntegerSchema) schema).getDivisibleBy() != null
+                ? ((IntegerSchema) schema).getDivisibleBy()
+                : 0;
+    }
+
+    @Override
+    String validateValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && (integer || token != JsonToken.VALUE_NUMBER_FLOAT)) {
+            return integer ? "Expected integer" : "Expected number";
+        }
+
+        if (minimum != null || maximum != null) {
+            double value = parser.getDoubleValue();
+            if (minimum != null && (exclusiveMinimum ? value <= minimum : value < minimum)) {
+                return "Value below minimum";
+            }
+            if (maximum != null && (exclusiveMaximum ? value >= maximum : value > maximum)) {
+                return "Value above maximum";
+            }
+        }
+
+        if (divisibleBy != 0 && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+                && parser.getLongValue() % divisibleBy != 0) {
+            return "Value not divisible by " + divisibleBy;
+        }
+
+        return null;
+    }
+}
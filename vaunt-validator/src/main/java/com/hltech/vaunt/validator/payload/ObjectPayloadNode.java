@@ -0,0 +1,100 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+class ObjectPayloadNode extends PayloadNode {
+
+    private static final int TRACKED_REQUIRED_PROPERTIES = Long.SIZE;
+
+    private final boolean additionalPropertiesAllowed;
+    private final Map<String, Property> properties = new HashMap<>();
+    private int requiredCount;
+
+    ObjectPayloadNode(ObjectSchema schema) {
+        super(Boolean.TRUE.equals(schema.getRequired()));
+        this.additionalPropertiesAllowed =
+                !(schema.getAdditionalProperties() instanceof ObjectSchema.NoAdditionalProperties);
+    }
+
+    void addProperty(String name, PayloadNode node) {
+        properties.put(name, new Property(name, node, node.isRequired() ? requiredCount++ : -1));
+    }
+
+    @Override
+    String validateValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return "Expected object";
+        }
+
+        long presentRequired = 0;
+        BitSet presentUntracked = null;
+        int presentRequiredCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Property property = properties.get(parser.getCurrentName());
+            parser.nextToken();
+
+            if (property == null) {
+                if (!additionalPropertiesAllowed) {
+                    return "Unexpected property";
+                }
+                parser.skipChildren();
+                continue;
+            }
+
+            String error = property.node.validate(parser);
+            if (error != null) {
+                return error;
+            }
+
+            if (property.requiredIndex >= TRACKED_REQUIRED_PROPERTIES) {
+                if (presentUntracked == null) {
+                    presentUntracked = new BitSet(requiredCount - TRACKED_REQUIRED_PROPERTIES);
+                }
+                if (!presentUntracked.get(property.requiredIndex - TRACKED_REQUIRED_PROPERTIES)) {
+                    presentUntracked.set(property.requiredIndex - TRACKED_REQUIRED_PROPERTIES);
+                    presentRequiredCount++;
+                }
+            } else if (property.requiredIndex >= 0 && (presentRequired & 1L << property.requiredIndex) == 0) {
+                presentRequired |= 1L << property.requiredIndex;
+                presentRequiredCount++;
+            }
+        }
+
+        return presentRequiredCount < requiredCount
+                ? missingRequiredProperty(presentRequired, presentUntracked)
+                : null;
+    }
+
+    private String missingRequiredProperty(long presentRequired, BitSet presentUntracked) {
+        for (Property property : properties.values()) {
+            if (property.requiredIndex >= 0 && !isPresent(property.requiredIndex, presentRequired, presentUntracked)) {
+                return "Missing required property: " + property.name;
+            }
+        }
+        return "Missing required property";
+    }
+
+    private boolean isPresent(int requiredIndex, long presentRequired, BitSet presentUntracked) {
+        if (requiredIndex < TRACKED_REQUIRED_PROPERTIES) {
+            return (presentRequired & 1L << requiredIndex) != 0;
+        }
+        return presentUntracked != null && presentUntracked.get(requiredIndex - TRACKED_REQUIRED_PROPERTIES);
+    }
+
+    @RequiredArgsConstructor
+    private static class Property {
+        private final String name;
+        private final PayloadNode node;
+        private final int requiredIndex;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+abstract class PayloadNode {
+
+    private final boolean required;
+
+    PayloadNode(boolean required) {
+        this.required = required;
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    String validate(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return required ? "Null value of required property" : null;
+        }
+        return validateValue(parser);
+    }
+
+    abstract String validateValue(JsonParser parser) throws IOException;
+}
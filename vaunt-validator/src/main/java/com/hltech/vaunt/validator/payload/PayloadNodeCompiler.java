@@ -0,0 +1,83 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema;
+import com.fasterxml.jackson.module.jsonSchema.types.BooleanSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.NumberSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema;
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema;
+import com.hltech.vaunt.validator.schema.SchemaReferences;
+import lombok.RequiredArgsConstructor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class PayloadNodeCompiler {
+
+    private final SchemaReferences references;
+    private final Map<JsonSchema, PayloadNode> compiled = new IdentityHashMap<>();
+
+    PayloadNode compile(JsonSchema schema) {
+        JsonSchema resolved = references.resolve(schema);
+        PayloadNode node = compiled.get(resolved);
+
+        if (node == null) {
+            node = compileResolved(resolved);
+        }
+        return node;
+    }
+
+    private PayloadNode compileResolved(JsonSchema schema) {
+        if (schema instanceof ObjectSchema) {
+            return compileObject((ObjectSchema) schema);
+        }
+        if (schema instanceof ArraySchema) {
+            return compileArray((ArraySchema) schema);
+        }
+
+        PayloadNode node;
+        if (schema instanceof StringSchema) {
+            node = new StringPayloadNode((StringSchema) schema);
+        } else if (schema instanceof NumberSchema) {
+            node = new NumberPayloadNode((NumberSchema) schema);
+        } else if (schema instanceof BooleanSchema) {
+            node = new BooleanPayloadNode(Boolean.TRUE.equals(schema.getRequired()));
+        } else {
+            node = new AnyPayloadNode(schema != null && Boolean.TRUE.equals(schema.getRequired()));
+        }
+
+        compiled.put(schema, node);
+        return node;
+    }
+
+    private PayloadNode compileObject(ObjectSchema schema) {
+        ObjectPayloadNode node = new ObjectPayloadNode(schema);
+        compiled.put(schema, node);
+
+        if (schema.getProperties() != null) {
+            schema.getProperties().forEach((name, property) -> node.addProperty(name, compile(property)));
+        }
+        return node;
+    }
+
+    private PayloadNode compileArray(ArraySchema schema) {
+        ArrayPayloadNode node = new ArrayPayloadNode(schema);
+        compiled.put(schema, node);
+
+        ArraySchema.Items items = schema.getItems();
+        if (items instanceof ArraySchema.ArrayItems) {
+            JsonSchema[] tupleItems = ((ArraySchema.ArrayItems) items).getJsonSchemas();
+            PayloadNode[] tupleNodes = new PayloadNode[tupleItems.length];
+            for (int index = 0; index < tupleItems.length; index++) {
+                tupleNodes[index] = compile(tupleItems[index]);
+            }
+            node.setTupleItems(tupleNodes);
+        } else if (items instanceof ArraySchema.SingleItems) {
+            node.setItems(compile(((ArraySchema.SingleItems) items).getSchema()));
+        } else {
+            node.setItems(new AnyPayloadNode(false));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hltech.vaunt.validator.payload;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class PayloadQueue {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final DestinationValidators[] destinations;
+    private final byte[][] payloads;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    PayloadQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Queue capacity must be between 1 and 2^30, was: " + capacity);
+        }
+
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.destinations = new DestinationValidators[size];
+        this.payloads = new byte[size][];
+
+        for (int index = 0; index < size; index++) {
+            sequences.set(index, index);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean offer(DestinationValidators destination, byte[] payload) {
+        return enqueue(destination, payload, true);
+    }
+
+    boolean offerOwned(DestinationValidators destination, byte[] payload) {
+        return enqueue(destination, payload, false);
+    }
+
+    int drain(DestinationValidators[] destinationBatch, byte[][] payloadBatch) {
+        int count = 0;
+        while (count < destinationBatch.length && poll(destinationBatch, payloadBatch, count)) {
+            count++;
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        long position = dequeuePosition.get();
+        return sequences.get((int) position & mask) - (position + 1) < 0;
+    }
+
+    private boolean enqueue(DestinationValidators destination, byte[] payload, boolean copy) {
+        long position = enqueuePosition.get();
+
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0 && enqueuePosition.compareAndSet(position, position + 1)) {
+                destinations[index] = destination;
+                payloads[index] = copy ? payload.clone() : payload;
+                sequences.lazySet(index, position + 1);
+                return true;
+            }
+            if (difference < 0) {
+                return false;
+            }
+            position = enqueuePosition.get();
+        }
+    }
+
+    private boolean poll(DestinationValidators[] destinationBatch, byte[][] payloadBatch, int batchIndex) {
+        long position = dequeuePosition.get();
+
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0 && dequeuePosition.compareAndSet(position, position + 1)) {
+                destinationBatch[batchIndex] = destinations[index];
+                payloadBatch[batchIndex] = payloads[index];
+                destinations[index] = null;
+                payloads[index] = null;
+                sequences.lazySet(index, position + mask + 1);
+                return true;
+            }
+            if (difference < 0) {
+                return false;
+            }
+            position = dequeuePosition.get();
+        }
+    }
+}
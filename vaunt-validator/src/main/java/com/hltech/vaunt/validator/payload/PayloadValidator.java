@@ -0,0 +1,104 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.validator.VauntValidationException;
+import com.hltech.vaunt.validator.schema.SchemaReferences;
+
+import java.io.IOException;
+import java.util.Optional;
+
+public class PayloadValidator {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final PayloadNode root;
+
+    private PayloadValidator(PayloadNode root) {
+        this.root = root;
+    }
+
+    public static PayloadValidator compile(Contract contract) {
+        return compile(contract.getMessage(), SchemaReferences.NONE);
+    }
+
+    public static PayloadValidator compile(Contract contract, SchemaReferences references) {
+        return compile(contract.getMessage(), references);
+    }
+
+    public static PayloadValidator compile(JsonSchema schema) {
+        return compile(schema, SchemaReferences.NONE);
+    }
+
+    public static PayloadValidator compile(JsonSchema schema, SchemaReferences references) {
+        return new PayloadValidator(new PayloadNodeCompiler(references).compile(schema));
+    }
+
+    public boolean isValid(byte[] payload) {
+        return !validate(payload, 0, payload.length).isPresent();
+    }
+
+    public boolean isValid(JsonParser parser) {
+        return !validate(parser).isPresent();
+    }
+
+    public Optional<PayloadViolation> validate(byte[] payload) {
+        return validate(payload, 0, payload.length);
+    }
+
+    public Optional<PayloadViolation> validate(byte[] payload, int offset, int length) {
+        try (JsonParser parser = FACTORY.createParser(payload, offset, length)) {
+            Optional<PayloadViolation> violation = validate(parser);
+            if (!violation.isPresent() && parser.nextToken() != null) {
+                return violation(parser, "Unexpected content after payload");
+            }
+            return violation;
+        } catch (JsonProcessingException ex) {
+            return Optional.of(new PayloadViolation("", "Malformed payload: " + ex.getOriginalMessage()));
+        } catch (IOException ex) {
+            throw new VauntValidationException("Unable to read payload", ex);
+        }
+    }
+
+    public Optional<PayloadViolation> validate(JsonParser parser) {
+        try {
+            if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+                return violation(parser, "Empty payload");
+            }
+
+            JsonStreamContext enclosingContext = parser.currentToken().isStructStart()
+                    ? parser.getParsingContext().getParent()
+                    : parser.getParsingContext();
+
+            String error = root.validate(parser);
+            if (error == null) {
+                return Optional.empty();
+            }
+
+            Optional<PayloadViolation> violation = violation(parser, error);
+            skipRemainingValue(parser, enclosingContext);
+            return violation;
+        } catch (JsonProcessingException ex) {
+            return Optional.of(new PayloadViolation(
+                    parser.getParsingContext().pathAsPointer().toString(),
+                    "Malformed payload: " + ex.getOriginalMessage()));
+        } catch (IOException ex) {
+            throw new VauntValidationException("Unable to read payload", ex);
+        }
+    }
+
+    private static void skipRemainingValue(JsonParser parser, JsonStreamContext enclosingContext)
+            throws IOException {
+        while (parser.getParsingContext() != enclosingContext && parser.nextToken() != null) {
+            parser.skipChildren();
+        }
+    }
+
+    private static Optional<PayloadViolation> violation(JsonParser parser, String message) {
+        return Optional.of(new PayloadViolation(parser.getParsingContext().pathAsPointer().toString(), message));
+    }
+}
@@ -0,0 +1,9 @@
+package com.hltech.vaunt.validator.payload;
+
+import lombok.Value;
+
+@Value
+public class PayloadViolation {
+    private final String path;
+    private final String message;
+}
@@ -0,0 +1,9 @@
+package com.hltech.vaunt.validator.payload;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface PayloadViolationSink {
+
+    void onViolations(List<ShadowViolation> violations);
+}
@@ -0,0 +1,13 @@
+package com.hltech.vaunt.validator.payload;
+
+import lombok.Value;
+
+@Value
+public class ShadowValidationStatistics {
+    private final long offered;
+    private final long sampled;
+    private final long dropped;
+    private final long validated;
+    private final long violated;
+    private final long sinkFailures;
+}
@@ -0,0 +1,221 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.hltech.vaunt.core.domain.model.Contract;
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import com.hltech.vaunt.validator.schema.SchemaReferences;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class ShadowValidator implements Closeable {
+
+    private static final double DEFAULT_SAMPLING_RATE = 1.0;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int DEFAULT_WORKER_COUNT = 1;
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Map<DestinationType, Map<String, DestinationValidators>> destinations =
+            new EnumMap<>(DestinationType.class);
+    private final PayloadViolationSink sink;
+    private final double samplingRate;
+    private final int batchSize;
+    private final PayloadQueue queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder validated = new LongAdder();
+    private final LongAdder violated = new LongAdder();
+    private final LongAdder sinkFailures = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public ShadowValidator(Collection<Contract> contracts, PayloadViolationSink sink) {
+        this(contracts, SchemaReferences.NONE, sink, DEFAULT_SAMPLING_RATE,
+                DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_WORKER_COUNT);
+    }
+
+    public ShadowValidator(Collection<Contract> contracts, SchemaReferences references, PayloadViolationSink sink,
+                           double samplingRate, int queueCapacity, int batchSize, int workerCount) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("Sampling rate must be between 0 and 1, was: " + samplingRate);
+        }
+        if (batchSize < 1 || workerCount < 1) {
+            throw new IllegalArgumentException("Batch size and worker count must be positive");
+        }
+
+        this.sink = sink;
+        this.samplingRate = samplingRate;
+        this.batchSize = batchSize;
+        this.queue = new PayloadQueue(queueCapacity);
+        compileDestinations(contracts, references);
+
+        for (int worker = 0; worker < workerCount; worker++) {
+            Thread thread = new Thread(this::work, "vaunt-shadow-validator-" + worker);
+            thread.setDaemon(true);
+            workers.add(thread);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Queues a copy of the payload, so the caller may reuse the buffer as soon as this method returns.
+     */
+    public boolean offer(DestinationType destinationType, String destinationName, byte[] payload) {
+        return offer(destinationType, destinationName, payload, false);
+    }
+
+    private boolean offer(DestinationType destinationType, String destinationName, byte[] payload, boolean owned) {
+        offered.increment();
+        if (!running || !isSampled()) {
+            return false;
+        }
+
+        Map<String, DestinationValidators> namedDestinations = destinations.get(destinationType);
+        DestinationValidators destination = namedDestinations == null ? null : namedDestinations.get(destinationName);
+        if (destination == null) {
+            return false;
+        }
+
+        sampled.increment();
+        if (!(owned ? queue.offerOwned(destination, payload) : queue.offer(destination, payload))) {
+            dropped.increment();
+            return false;
+        }
+
+        Thread idleWorker = idleWorkers.isEmpty() ? null : idleWorkers.poll();
+        if (idleWorker != null) {
+            LockSupport.unpark(idleWorker);
+        }
+        return true;
+    }
+
+    /**
+     * Queues the payload without copying it. Once accepted, the buffer belongs to the validator and the caller
+     * must not modify it; a rejected buffer stays with the caller.
+     */
+    public boolean offerOwned(DestinationType destinationType, String destinationName, byte[] payload) {
+        return offer(destinationType, destinationName, payload, true);
+    }
+
+    public ShadowValidationStatistics getStatistics() {
+        return new ShadowValidationStatistics(offered.sum(), sampled.sum(), dropped.sum(),
+                validated.sum(), violated.sum(), sinkFailures.sum());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(LockSupport::unpark);
+
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void compileDestinations(Collection<Contract> contracts, SchemaReferences references) {
+        Map<DestinationType, Map<String, List<PayloadValidator>>> validators = new EnumMap<>(DestinationType.class);
+        for (Contract contract : contracts) {
+            validators.computeIfAbsent(contract.getDestinationType(), type -> new LinkedHashMap<>())
+                    .computeIfAbsent(contract.getDestinationName(), name -> new ArrayList<>())
+                    .add(PayloadValidator.compile(contract, references));
+        }
+
+        validators.forEach((destinationType, namedValidators) -> {
+            Map<String, DestinationValidators> namedDestinations = new HashMap<>();
+            namedValidators.forEach((destinationName, destinationValidators) -> namedDestinations.put(
+                    destinationName, new DestinationValidators(destinationType, destinationName,
+                            destinationValidators.toArray(new PayloadValidator[0]))));
+            destinations.put(destinationType, namedDestinations);
+        });
+    }
+
+    private boolean isSampled() {
+        return samplingRate >= 1 || samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private void work() {
+        DestinationValidators[] destinationBatch = new DestinationValidators[batchSize];
+        byte[][] payloadBatch = new byte[batchSize][];
+        List<ShadowViolation> violations = new ArrayList<>();
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+
+        while (running || !queue.isEmpty()) {
+            int count = queue.drain(destinationBatch, payloadBatch);
+            if (count == 0) {
+                idle(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+                continue;
+            }
+            idleParkNanos = MIN_IDLE_PARK_NANOS;
+
+            for (int index = 0; index < count; index++) {
+                validate(destinationBatch[index], payloadBatch[index]).ifPresent(violations::add);
+                destinationBatch[index] = null;
+                payloadBatch[index] = null;
+            }
+            if (!violations.isEmpty()) {
+                violated.add(violations.size());
+                publish(violations);
+                violations.clear();
+            }
+            validated.add(count);
+        }
+    }
+
+    private void idle(long parkNanos) {
+        Thread worker = Thread.currentThread();
+        idleWorkers.add(worker);
+        if (running && queue.isEmpty()) {
+            LockSupport.parkNanos(this, parkNanos);
+        }
+        idleWorkers.remove(worker);
+    }
+
+    private Optional<ShadowViolation> validate(DestinationValidators destination, byte[] payload) {
+        List<PayloadViolation> contractViolations = null;
+
+        for (PayloadValidator validator : destination.getValidators()) {
+            Optional<PayloadViolation> violation = validator.validate(payload);
+            if (!violation.isPresent()) {
+                return Optional.empty();
+            }
+            if (contractViolations == null) {
+                contractViolations = new ArrayList<>(destination.getValidators().length);
+            }
+            contractViolations.add(violation.get());
+        }
+
+        return Optional.of(new ShadowViolation(
+                destination.getDestinationType(), destination.getDestinationName(), payload, contractViolations));
+    }
+
+    private void publish(List<ShadowViolation> violations) {
+        try {
+            sink.onViolations(new ArrayList<>(violations));
+        } catch (RuntimeException ex) {
+            sinkFailures.increment();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.hltech.vaunt.core.domain.model.DestinationType;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class ShadowViolation {
+    private final DestinationType destinationType;
+    private final String destinationName;
+    private final byte[] payload;
+    private final List<PayloadViolation> violations;
+}
@@ -0,0 +1,122 @@
+package com.hltech.vaunt.validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class StringPayloadNode extends PayloadNode {
+
+    private final Integer minLength;
+    private final Integer maxLength;
+    private final char[][] enums;
+    private final ThreadLocal<Matcher> matchers;
+    private final ThreadLocal<CharArraySequence> sequences;
+
+    StringPayloadNode(StringSchema schema) {
+        super(Boolean.TRUE.equals(schema.getRequired()));
+        this.minLength = schema.getMinLength();
+        this.maxLength = schema.getMaxLength();
+        this.enums = schema.getEnums() == null || schema.getEnums().isEmpty()
+                ? null
+                : schema.getEnums().stream().map(String::toCharArray).toArray(char[][]::new);
+
+        if (schema.getPattern() == null) {
+            this.matchers = null;
+            this.sequences = null;
+        } else {
+            Pattern pattern = Pattern.compile(schema.getPattern());
+            this.sequences = ThreadLocal.withInitial(CharArraySequence::new);
+            this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+    }
+
+    @Override
+    String validateValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return "Expected string";
+        }
+
+        int length = parser.getTextLength();
+        if (minLength != null || maxLength != null) {
+            int codePoints = Character.codePointCount(parser.getTextCharacters(), parser.getTextOffset(), length);
+            if (minLength != null && codePoints < minLength) {
+                return "String shorter than " + minLength;
+            }
+            if (maxLength != null && codePoints > maxLength) {
+                return "String longer than " + maxLength;
+            }
+        }
+        if (enums != null && !isEnumValue(parser.getTextCharacters(), parser.getTextOffset(), length)) {
+            return "Value not allowed by enum";
+        }
+        if (matchers != null && !matches(parser.getTextCharacters(), parser.getTextOffset(), length)) {
+            return "String not matching pattern";
+        }
+
+        return null;
+    }
+
+    private boolean isEnumValue(char[] text, int offset, int length) {
+        for (char[] value : enums) {
+            if (value.length == length && regionMatches(value, text, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean regionMatches(char[] value, char[] text, int offset) {
+        for (int index = 0; index < value.length; index++) {
+            if (value[index] != text[offset + index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(char[] text, int offset, int length) {
+        CharArraySequence sequence = sequences.get().wrap(text, offset, length);
+        try {
+            return matchers.get().reset(sequence).find();
+        } finally {
+            sequence.wrap(null, 0, 0);
+        }
+    }
+
+    private static class CharArraySequence implements CharSequence {
+        private char[] text;
+        private int offset;
+        private int length;
+
+        private CharArraySequence wrap(char[] text, int offset, int length) {
+            this.text = text;
+            this.offset = offset;
+            this.length = length;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(text, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(text, offset, length);
+        }
+    }
+}
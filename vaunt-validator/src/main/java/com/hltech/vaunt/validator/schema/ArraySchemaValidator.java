@@ -3,58 +3,67 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema;
 
-import java.util.List;
-
 public class ArraySchemaValidator extends ContainerTypeSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         ArraySchema consumerIntegerSchema = consumerSchema.asArraySchema();
         ArraySchema providerIntegerSchema = providerSchema.asArraySchema();
 
         if (!isValid(consumerIntegerSchema.getAdditionalItems(), providerIntegerSchema.getAdditionalItems())) {
-            errors.add(String.format(ERROR_FORMAT_SHORT,
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
-                    "additionalItems"));
+                    "additionalItems");
         }
 
-        if (!isValid(consumerIntegerSchema.getItems(), providerIntegerSchema.getItems())) {
-            errors.add(String.format(ERROR_FORMAT_SHORT,
+        if (!isItemsValid(consumerIntegerSchema.getItems(), providerIntegerSchema.getItems())) {
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
-                    "items"));
+                    "items");
         }
 
         if (!isValid(consumerIntegerSchema.getMaxItems(), providerIntegerSchema.getMaxItems())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
                     "maxItems",
                     consumerIntegerSchema.getMaxItems(),
-                    providerIntegerSchema.getMaxItems()));
+                    providerIntegerSchema.getMaxItems());
         }
 
         if (!isValid(consumerIntegerSchema.getMinItems(), providerIntegerSchema.getMinItems())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
                     "minItems",
                     consumerIntegerSchema.getMinItems(),
-                    providerIntegerSchema.getMinItems()));
+                    providerIntegerSchema.getMinItems());
         }
 
         if (!isValid(consumerIntegerSchema.getUniqueItems(), providerIntegerSchema.getUniqueItems())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
                     "uniqueItems",
                     consumerIntegerSchema.getUniqueItems(),
-                    providerIntegerSchema.getUniqueItems()));
+                    providerIntegerSchema.getUniqueItems());
         }
-
-        return errors;
     }
 
     @Override
     public Class<?> supportsSchemaType() {
         return ArraySchema.class;
     }
+
+    private boolean isItemsValid(ArraySchema.Items consumerItems, ArraySchema.Items providerItems) {
+        if (consumerItems != null && consumerItems.isSingleItems()
+                && providerItems != null && providerItems.isSingleItems()
+                && consumerItems.asSingleItems().getSchema() == providerItems.asSingleItems().getSchema()) {
+            return true;
+        }
+
+        return isValid(consumerItems, providerItems);
+    }
 }
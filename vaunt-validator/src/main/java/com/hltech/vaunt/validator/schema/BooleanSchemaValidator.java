@@ -3,13 +3,11 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.BooleanSchema;
 
-import java.util.List;
-
 public class BooleanSchemaValidator extends ValueTypeSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        return super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
     }
 
     @Override
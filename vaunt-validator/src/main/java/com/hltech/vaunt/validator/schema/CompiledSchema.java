@@ -0,0 +1,112 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.validator.VauntValidationException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CompiledSchema {
+
+    static final int NOT_COMPILED = -1;
+    static final int ROOT = 0;
+
+    @Getter
+    private final JsonSchema schema;
+    @Getter
+    private final SchemaReferences references;
+    private final int registryVersion;
+
+    private final JsonSchema[] nodes;
+    private final JsonSchemaValidator[] validators;
+    private final int[] childOffsets;
+    private final String[] childNames;
+    private final JsonSchema[] childSources;
+    private final int[] children;
+
+    CompiledSchema(JsonSchema schema, SchemaReferences references, ValidatorRegistry registry) {
+        this.schema = schema;
+        this.references = references;
+        this.registryVersion = registry.version();
+
+        Map<JsonSchema, Integer> nodeIndexes = new IdentityHashMap<>();
+        List<JsonSchema> nodeList = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<JsonSchema> sources = new ArrayList<>();
+        List<Integer> childList = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+
+        JsonSchema root = references.resolve(schema);
+        nodeIndexes.put(root, ROOT);
+        nodeList.add(root);
+
+        for (int node = 0; node < nodeList.size(); node++) {
+            offsets.add(names.size());
+
+            JsonSchema current = nodeList.get(node);
+            if (!current.isObjectSchema() || current.asObjectSchema().getProperties() == null) {
+                continue;
+            }
+
+            new TreeMap<>(current.asObjectSchema().getProperties()).forEach((name, child) -> {
+                JsonSchema resolved = resolve(child);
+                Integer index = resolved == null ? Integer.valueOf(NOT_COMPILED) : nodeIndexes.get(resolved);
+                if (index == null) {
+                    index = nodeList.size();
+                    nodeIndexes.put(resolved, index);
+                    nodeList.add(resolved);
+                }
+
+                names.add(name);
+                sources.add(child);
+                childList.add(index);
+            });
+        }
+        offsets.add(names.size());
+
+        nodes = nodeList.toArray(new JsonSchema[0]);
+        validators = new JsonSchemaValidator[nodes.length];
+        for (int node = 0; node < nodes.length; node++) {
+            validators[node] = registry.find(nodes[node].getClass());
+        }
+        childOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+        childNames = names.toArray(new String[0]);
+        childSources = sources.toArray(new JsonSchema[0]);
+        children = childList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    boolean isCompiledWith(ValidatorRegistry registry) {
+        return registryVersion == registry.version();
+    }
+
+    JsonSchema node(int node) {
+        return nodes[node];
+    }
+
+    JsonSchemaValidator validator(int node) {
+        return validators[node];
+    }
+
+    int child(int node, String property, JsonSchema source) {
+        int index = Arrays.binarySearch(childNames, childOffsets[node], childOffsets[node + 1], property);
+
+        return index >= 0 && childSources[index] == source ? children[index] : NOT_COMPILED;
+    }
+
+    private JsonSchema resolve(JsonSchema child) {
+        try {
+            return child == null ? null : references.resolve(child);
+        } catch (VauntValidationException ex) {
+            return null;
+        }
+    }
+}
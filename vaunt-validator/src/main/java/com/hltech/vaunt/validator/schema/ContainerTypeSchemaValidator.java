@@ -3,33 +3,42 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.ContainerTypeSchema;
 
-import java.util.List;
-
 public abstract class ContainerTypeSchemaValidator extends SimpleTypeSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         ContainerTypeSchema consumerContainerTypeSchema = consumerSchema.asContainerTypeSchema();
         ContainerTypeSchema providerContainerTypeSchema = providerSchema.asContainerTypeSchema();
 
         if (!isEnumValid(consumerContainerTypeSchema.getEnums(), providerContainerTypeSchema.getEnums())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "enums",
                     consumerContainerTypeSchema.getEnums(),
-                    providerContainerTypeSchema.getEnums()));
+                    providerContainerTypeSchema.getEnums());
         }
 
         if (!isEnumValid(consumerContainerTypeSchema.getOneOf(), providerContainerTypeSchema.getOneOf())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "oneOf",
                     consumerContainerTypeSchema.getOneOf(),
-                    providerContainerTypeSchema.getOneOf()));
+                    providerContainerTypeSchema.getOneOf());
         }
+    }
+
+    @Override
+    public boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        ContainerTypeSchema consumerContainerTypeSchema = consumerSchema.asContainerTypeSchema();
+        ContainerTypeSchema providerContainerTypeSchema = providerSchema.asContainerTypeSchema();
 
-        return errors;
+        return super.isCompatible(consumerSchema, providerSchema)
+                && isEnumValid(consumerContainerTypeSchema.getEnums(), providerContainerTypeSchema.getEnums())
+                && isEnumValid(consumerContainerTypeSchema.getOneOf(), providerContainerTypeSchema.getOneOf());
     }
 }
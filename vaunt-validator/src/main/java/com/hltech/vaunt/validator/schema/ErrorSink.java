@@ -0,0 +1,14 @@
+package com.hltech.vaunt.validator.schema;
+
+import java.util.Set;
+
+public interface ErrorSink {
+
+    void notMatching(String schemaId, String keyword, Object consumerValue, Object providerValue);
+
+    void notMatching(String schemaId, String keyword);
+
+    void notMatchingProperties(String schemaId, Set<String> consumerProperties, Set<String> providerProperties);
+
+    boolean isFull();
+}
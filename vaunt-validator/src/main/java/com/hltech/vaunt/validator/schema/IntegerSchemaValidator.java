@@ -3,26 +3,25 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema;
 
-import java.util.List;
-
 public class IntegerSchemaValidator extends NumberSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         IntegerSchema consumerIntegerSchema = consumerSchema.asIntegerSchema();
         IntegerSchema providerIntegerSchema = providerSchema.asIntegerSchema();
 
         if (!isValid(consumerIntegerSchema.getDivisibleBy(), providerIntegerSchema.getDivisibleBy())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerIntegerSchema.getId(),
                     "divisibleBy",
                     consumerIntegerSchema.getDivisibleBy(),
-                    providerIntegerSchema.getDivisibleBy()));
+                    providerIntegerSchema.getDivisibleBy());
         }
-
-        return errors;
     }
 
     @Override
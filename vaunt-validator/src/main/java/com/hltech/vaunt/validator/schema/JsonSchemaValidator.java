@@ -1,83 +1,97 @@
 package com.hltech.vaunt.validator.schema;
 
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.validator.ValidationError;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public abstract class JsonSchemaValidator {
-    static final String ERROR_FORMAT = "Schema with id %s has not matching %s - consumer: %s, provider: %s";
-    static final String ERROR_FORMAT_SHORT = "Schema with id %s has not matching %s";
 
     public abstract Class<?> supportsSchemaType();
 
+    @Deprecated
     public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = new ArrayList<>();
+        return findErrors(consumerSchema, providerSchema).stream()
+                .map(ValidationError::toString)
+                .collect(Collectors.toList());
+    }
+
+    public List<ValidationError> findErrors(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        ErrorList errors = new ErrorList();
+        check(consumerSchema, providerSchema, errors);
+
+        return errors.errors;
+    }
+
+    public boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        CompatibilityFlag compatibility = new CompatibilityFlag();
+        check(consumerSchema, providerSchema, compatibility);
 
+        return !compatibility.isFull();
+    }
+
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
         if (!isValid(consumerSchema.get$ref(), providerSchema.get$ref())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "$ref",
                     consumerSchema.get$ref(),
-                    providerSchema.get$ref()));
+                    providerSchema.get$ref());
         }
 
         if (!isValid(consumerSchema.get$schema(), providerSchema.get$schema())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "$schema",
                     consumerSchema.get$schema(),
-                    providerSchema.get$schema()));
+                    providerSchema.get$schema());
         }
 
         if (!isArrayValid(consumerSchema.getDisallow(), providerSchema.getDisallow(), Object::equals)) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "disallow",
-                    jsonArrayToString(consumerSchema.getDisallow()),
-                    jsonArrayToString(providerSchema.getDisallow())));
+                    consumerSchema.getDisallow(),
+                    providerSchema.getDisallow());
         }
 
         if (!isArrayValid(consumerSchema.getExtends(), providerSchema.getExtends(), Object::equals)) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "extends",
-                    jsonArrayToString(consumerSchema.getExtends()),
-                    jsonArrayToString(providerSchema.getExtends())));
+                    consumerSchema.getExtends(),
+                    providerSchema.getExtends());
         }
 
         if (isRequired(consumerSchema) && !isRequired(providerSchema)) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "required",
                     consumerSchema.getRequired(),
-                    providerSchema.getRequired()));
+                    providerSchema.getRequired());
         }
 
         if (!isValid(consumerSchema.getReadonly(), providerSchema.getReadonly())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "readonly",
                     consumerSchema.getReadonly(),
-                    providerSchema.getReadonly()));
+                    providerSchema.getReadonly());
         }
 
         if (!isValid(consumerSchema.getDescription(), providerSchema.getDescription())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "description",
                     consumerSchema.getDescription(),
-                    providerSchema.getDescription()));
+                    providerSchema.getDescription());
         }
-
-        return errors;
     }
 
     private boolean isRequired(JsonSchema schema) {
@@ -97,20 +111,16 @@ public abstract class JsonSchemaValidator {
             return false;
         }
 
-        return consumerArray.length == providerArray.length && IntStream.range(0, consumerArray.length)
-                .allMatch(i -> checker.test(consumerArray[i], providerArray[i]));
-    }
-
-    private String jsonArrayToString(JsonSchema[] array) {
-        String content = Arrays.stream(array)
-                .map(this::jsonToString)
-                .collect(Collectors.joining(", "));
-
-        return "[" + content + "]";
-    }
+        if (consumerArray.length != providerArray.length) {
+            return false;
+        }
 
-    String jsonToString(JsonSchema object) {
-        return "JsonSchema(id=" + object.getId() + ")";
+        for (int i = 0; i < consumerArray.length; i++) {
+            if (!checker.test(consumerArray[i], providerArray[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     <T> boolean isEnumValid(Set<T> consumerEnums, Set<T> providerEnums) {
@@ -144,4 +154,54 @@ public abstract class JsonSchemaValidator {
     private <T> boolean representsString(Set<T> enums) {
         return enums.size() == 0;
     }
+
+    private static class ErrorList implements ErrorSink {
+        private final List<ValidationError> errors = new ArrayList<>();
+
+        @Override
+        public void notMatching(String schemaId, String keyword, Object consumerValue, Object providerValue) {
+            errors.add(ValidationError.notMatching(schemaId, keyword, consumerValue, providerValue));
+        }
+
+        @Override
+        public void notMatching(String schemaId, String keyword) {
+            errors.add(ValidationError.notMatching(schemaId, keyword));
+        }
+
+        @Override
+        public void notMatchingProperties(String schemaId, Set<String> consumerProperties,
+                                          Set<String> providerProperties) {
+            errors.add(ValidationError.notMatchingProperties(schemaId, consumerProperties, providerProperties));
+        }
+
+        @Override
+        public boolean isFull() {
+            return false;
+        }
+    }
+
+    private static class CompatibilityFlag implements ErrorSink {
+        private boolean incompatible;
+
+        @Override
+        public void notMatching(String schemaId, String keyword, Object consumerValue, Object providerValue) {
+            incompatible = true;
+        }
+
+        @Override
+        public void notMatching(String schemaId, String keyword) {
+            incompatible = true;
+        }
+
+        @Override
+        public void notMatchingProperties(String schemaId, Set<String> consumerProperties,
+                                          Set<String> providerProperties) {
+            incompatible = true;
+        }
+
+        @Override
+        public boolean isFull() {
+            return incompatible;
+        }
+    }
 }
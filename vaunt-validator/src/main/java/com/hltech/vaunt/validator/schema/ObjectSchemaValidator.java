@@ -2,49 +2,70 @@ package com.hltech.vaunt.validator.schema;
 
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema;
-import com.google.common.collect.Lists;
+import com.hltech.vaunt.validator.ValidationError;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-public class ObjectSchemaValidator extends ContainerTypeSchemaValidator {
+public class ObjectSchemaValidator extends ContainerTypeSchemaValidator implements TraversableSchemaValidator {
+
+    private static final SubschemaVisitor IGNORED_SUBSCHEMAS = (property, consumerProperty, providerProperty) -> {
+    };
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public List<ValidationError> findErrors(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return SchemaValidator.findErrors(consumerSchema, providerSchema);
+    }
+
+    @Override
+    public boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return SchemaValidator.isCompatible(consumerSchema, providerSchema);
+    }
+
+    @Override
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        check(consumerSchema, providerSchema, errors, IGNORED_SUBSCHEMAS);
+    }
+
+    @Override
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors,
+                      SubschemaVisitor subschemas) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         ObjectSchema consumerObjectSchema = consumerSchema.asObjectSchema();
         ObjectSchema providerObjectSchema = providerSchema.asObjectSchema();
 
         if (!isValid(consumerObjectSchema.getAdditionalProperties(), providerObjectSchema.getAdditionalProperties())) {
-            errors.add(String.format(ERROR_FORMAT_SHORT,
+            errors.notMatching(
                     consumerSchema.getId(),
-                    "additionalProperties"));
+                    "additionalProperties");
         }
 
         if (!isMapValid(consumerObjectSchema.getDependencies(), providerObjectSchema.getDependencies())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "dependencies",
                     consumerObjectSchema.getDependencies(),
-                    providerObjectSchema.getDependencies()));
+                    providerObjectSchema.getDependencies());
         }
 
         if (!isMapValid(consumerObjectSchema.getPatternProperties(), providerObjectSchema.getPatternProperties())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "patternProperties",
-                    mapToString(consumerObjectSchema.getPatternProperties()),
-                    mapToString(providerObjectSchema.getPatternProperties())));
+                    consumerObjectSchema.getPatternProperties(),
+                    providerObjectSchema.getPatternProperties());
         }
 
-        errors.addAll(compareObjectProperties(
+        compareObjectProperties(
                 consumerSchema.getId(),
                 consumerObjectSchema.getProperties(),
-                providerObjectSchema.getProperties()));
-
-        return errors;
+                providerObjectSchema.getProperties(),
+                errors,
+                subschemas);
     }
 
     @Override
@@ -52,33 +73,23 @@ public class ObjectSchemaValidator extends ContainerTypeSchemaValidator {
         return ObjectSchema.class;
     }
 
-    private List<String> compareObjectProperties(String id, Map<String, JsonSchema> consumerProperties,
-                                            Map<String, JsonSchema> providerProperties) {
+    private void compareObjectProperties(String id, Map<String, JsonSchema> consumerProperties,
+                                         Map<String, JsonSchema> providerProperties,
+                                         ErrorSink errors, SubschemaVisitor subschemas) {
 
         if (!providerProperties.keySet().containsAll(consumerProperties.keySet())) {
-            return Lists.newArrayList(String.format(ERROR_FORMAT,
+            errors.notMatchingProperties(
                     id,
-                    "properties",
-                    "ids of properties: " + consumerProperties.keySet(),
-                    "ids of properties: " + providerProperties.keySet()
-                    ));
+                    consumerProperties.keySet(),
+                    providerProperties.keySet());
+            return;
         }
 
-        return consumerProperties.keySet().stream()
-                .flatMap(key -> validateProperty(consumerProperties.get(key), providerProperties.get(key)).stream())
-                .collect(Collectors.toList());
-    }
-
-    private List<String> validateProperty(JsonSchema consumerProperty, JsonSchema providerProperty) {
-        return SchemaValidator.validate(consumerProperty, providerProperty);
-    }
-
-    private String mapToString(Map<String, JsonSchema> props) {
-        String content = props.entrySet()
-                .stream()
-                .map(e -> e.getKey() + '=' + jsonToString(e.getValue()))
-                .collect(Collectors.joining(", "));
+        if (errors.isFull()) {
+            return;
+        }
 
-        return "{" + content + "}";
+        consumerProperties.forEach((key, consumerProperty) ->
+                subschemas.visit(key, consumerProperty, providerProperties.get(key)));
     }
 }
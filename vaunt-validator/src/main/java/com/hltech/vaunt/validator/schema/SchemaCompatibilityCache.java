@@ -0,0 +1,72 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import com.google.common.hash.HashCode;
+import com.hltech.vaunt.core.SchemaFingerprinter;
+import com.hltech.vaunt.validator.ValidationError;
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+public class SchemaCompatibilityCache {
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<SchemaPair, List<ValidationError>> results;
+    private final ConcurrentMap<JsonSchema, HashCode> fingerprints = new MapMaker().weakKeys().makeMap();
+
+    public SchemaCompatibilityCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public SchemaCompatibilityCache(long maximumSize) {
+        results = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public double getHitRate() {
+        return results.stats().hitRate();
+    }
+
+    public CacheStats getStats() {
+        return results.stats();
+    }
+
+    public long size() {
+        return results.size();
+    }
+
+    public void invalidateAll() {
+        results.invalidateAll();
+        fingerprints.clear();
+    }
+
+    SchemaFingerprinter fingerprinter() {
+        return new SchemaFingerprinter(fingerprints);
+    }
+
+    List<ValidationError> getIfPresent(HashCode consumerFingerprint, HashCode providerFingerprint,
+                                       int registryVersion) {
+        return results.getIfPresent(new SchemaPair(consumerFingerprint, providerFingerprint, registryVersion));
+    }
+
+    void put(HashCode consumerFingerprint, HashCode providerFingerprint, int registryVersion,
+             List<ValidationError> errors) {
+        results.put(new SchemaPair(consumerFingerprint, providerFingerprint, registryVersion),
+                ImmutableList.copyOf(errors));
+    }
+
+    @Value
+    private static class SchemaPair {
+        private final HashCode consumerFingerprint;
+        private final HashCode providerFingerprint;
+        private final int registryVersion;
+    }
+}
@@ -0,0 +1,69 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.hltech.vaunt.core.SchemaLayout;
+import com.hltech.vaunt.validator.VauntValidationException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class SchemaReferences {
+
+    public static final SchemaReferences NONE = new SchemaReferences(Collections.emptyMap());
+
+    private final Map<String, JsonSchema> definitions;
+    private final ConcurrentMap<String, JsonSchema> resolvedReferences = new ConcurrentHashMap<>();
+
+    private SchemaReferences(Map<String, JsonSchema> definitions) {
+        this.definitions = definitions;
+    }
+
+    public static SchemaReferences of(Map<String, JsonSchema> definitions) {
+        return definitions == null || definitions.isEmpty() ? NONE : new SchemaReferences(definitions);
+    }
+
+    public JsonSchema resolve(JsonSchema schema) {
+        if (!isReference(schema)) {
+            return schema;
+        }
+
+        JsonSchema resolved = resolvedReferences.get(schema.get$ref());
+        if (resolved == null) {
+            resolved = resolveChain(schema);
+            resolvedReferences.putIfAbsent(schema.get$ref(), resolved);
+        }
+
+        return resolved;
+    }
+
+    private JsonSchema resolveChain(JsonSchema schema) {
+        Set<String> chain = new LinkedHashSet<>();
+        JsonSchema resolved = schema;
+
+        while (isReference(resolved)) {
+            String reference = resolved.get$ref();
+            if (!chain.add(reference)) {
+                throw new VauntValidationException("Cyclic schema reference: "
+                        + String.join(" -> ", chain) + " -> " + reference);
+            }
+
+            resolved = definitions.get(reference.substring(SchemaLayout.DEFINITION_REFERENCE_PREFIX.length()));
+            if (resolved == null) {
+                throw new VauntValidationException("Unresolvable schema reference: " + reference);
+            }
+        }
+
+        return resolved;
+    }
+
+    private boolean isReference(JsonSchema schema) {
+        return this != NONE
+                && schema != null
+                && schema.get$ref() != null
+                && schema.get$ref().startsWith(SchemaLayout.DEFINITION_REFERENCE_PREFIX);
+    }
+}
@@ -0,0 +1,299 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+import com.google.common.hash.HashCode;
+import com.hltech.vaunt.core.SchemaFingerprinter;
+import com.hltech.vaunt.core.VauntListener;
+import com.hltech.vaunt.validator.ValidationError;
+import com.hltech.vaunt.validator.ValidationMode;
+import com.hltech.vaunt.validator.VauntValidationException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+class SchemaTraversal {
+
+    private final ValidatorRegistry validators;
+    private final SchemaCompatibilityCache cache;
+    private final VauntListener listener;
+    private final int maxDepth;
+    private final ValidationMode mode;
+    private final SchemaReferences consumerReferences;
+    private final SchemaReferences providerReferences;
+    private final CompiledSchema compiledProvider;
+
+    private final Deque<Frame> pending = new ArrayDeque<>();
+    private final List<Frame> subschemas = new ArrayList<>();
+    private final SubschemaVisitor visitor = this::addSubschema;
+    private final ErrorSink sink = new FrameErrors();
+    private SchemaFingerprinter fingerprinter;
+    private Map<JsonSchema, Map<JsonSchema, List<ValidationError>>> results;
+    private Frame visited;
+    private List<Frame> errorFrames;
+    private List<ValidationError> errors;
+    private boolean incompatible;
+
+    List<ValidationError> traverse(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        errorFrames = new ArrayList<>();
+        errors = new ArrayList<>();
+        walk(consumerSchema, providerSchema);
+
+        return errorsRelativeTo(null);
+    }
+
+    boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        walk(consumerSchema, providerSchema);
+
+        return !incompatible;
+    }
+
+    private void walk(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        if (isReferenced()) {
+            results = new IdentityHashMap<>();
+        }
+        pending.push(frame(consumerSchema, providerSchema, compiledProvider == null
+                ? CompiledSchema.NOT_COMPILED : CompiledSchema.ROOT, null, null, 0));
+
+        while (!pending.isEmpty() && !isFinished()) {
+            Frame frame = pending.pop();
+
+            if (frame.exit) {
+                store(frame.parent);
+            } else if (!isCached(frame)) {
+                visit(frame);
+            }
+        }
+    }
+
+    private boolean isFinished() {
+        return incompatible && (errors == null || mode == ValidationMode.FAIL_FAST);
+    }
+
+    private boolean isCached(Frame frame) {
+        if (frame.parent == null || (cache == null && !isMemoized())) {
+            return false;
+        }
+
+        List<ValidationError> cachedErrors = isMemoized()
+                ? results.getOrDefault(frame.consumerSchema, Collections.emptyMap()).get(frame.providerSchema)
+                : cache.getIfPresent(
+                        fingerprint(frame.consumerSchema), fingerprint(frame.providerSchema), validators.version());
+        if (cachedErrors != null) {
+            cachedErrors.forEach(error -> addError(frame, error));
+            return true;
+        }
+
+        frame.firstError = errors == null ? 0 : errors.size();
+        pending.push(frame.exit());
+        return false;
+    }
+
+    private void store(Frame frame) {
+        if (frame.partial) {
+            return;
+        }
+
+        List<ValidationError> frameErrors = errors == null ? Collections.emptyList() : errorsRelativeTo(frame);
+        if (isMemoized()) {
+            results.computeIfAbsent(frame.consumerSchema, consumerSchema -> new IdentityHashMap<>())
+                    .put(frame.providerSchema, frameErrors);
+        } else {
+            cache.put(fingerprint(frame.consumerSchema), fingerprint(frame.providerSchema),
+                    validators.version(), frameErrors);
+        }
+    }
+
+    private boolean isMemoized() {
+        return results != null;
+    }
+
+    private boolean isReferenced() {
+        return consumerReferences != SchemaReferences.NONE || providerReferences != SchemaReferences.NONE;
+    }
+
+    private HashCode fingerprint(JsonSchema schema) {
+        if (fingerprinter == null) {
+            fingerprinter = cache.fingerprinter();
+        }
+        return fingerprinter.fingerprint(schema);
+    }
+
+    private void visit(Frame frame) {
+        JsonSchema consumerSchema = frame.consumerSchema;
+        JsonSchema providerSchema = frame.providerSchema;
+
+        if (consumerSchema == providerSchema || isRecursive(frame)) {
+            return;
+        }
+
+        if (consumerSchema.getClass() != providerSchema.getClass()) {
+            addError(frame, ValidationError.notMatchingType(consumerSchema, providerSchema));
+            return;
+        }
+
+        if (frame.depth > maxDepth) {
+            throw new VauntValidationException(String.format(
+                    "Schema nesting exceeds maximum depth of %d at %s", maxDepth, path(frame)));
+        }
+
+        JsonSchemaValidator validator = validator(frame);
+
+        long start = listener.nanoTime();
+        visited = frame;
+        if (validator instanceof TraversableSchemaValidator) {
+            ((TraversableSchemaValidator) validator).check(consumerSchema, providerSchema, sink, visitor);
+        } else {
+            validator.check(consumerSchema, providerSchema, sink);
+        }
+        listener.onSchemaValidation(consumerSchema.getClass(), listener.nanoTime() - start);
+
+        for (int subschema = subschemas.size() - 1; subschema >= 0; subschema--) {
+            pending.push(subschemas.get(subschema));
+        }
+        subschemas.clear();
+    }
+
+    private JsonSchemaValidator validator(Frame frame) {
+        JsonSchemaValidator validator = frame.providerNode == CompiledSchema.NOT_COMPILED
+                ? null
+                : compiledProvider.validator(frame.providerNode);
+
+        return validator == null ? validators.get(frame.consumerSchema.getClass()) : validator;
+    }
+
+    private void addSubschema(String property, JsonSchema consumerSchema, JsonSchema providerSchema) {
+        int providerNode = visited.providerNode == CompiledSchema.NOT_COMPILED
+                ? CompiledSchema.NOT_COMPILED
+                : compiledProvider.child(visited.providerNode, property, providerSchema);
+
+        subschemas.add(frame(consumerSchema, providerSchema, providerNode, visited, property, visited.depth + 1));
+    }
+
+    private Frame frame(JsonSchema consumerSchema, JsonSchema providerSchema, int providerNode, Frame parent,
+                        String property, int depth) {
+        return new Frame(
+                consumerReferences.resolve(consumerSchema),
+                providerNode == CompiledSchema.NOT_COMPILED
+                        ? providerReferences.resolve(providerSchema)
+                        : compiledProvider.node(providerNode),
+                providerNode, parent, property, depth);
+    }
+
+    private boolean isRecursive(Frame frame) {
+        if (!isReferenced()) {
+            return false;
+        }
+
+        for (Frame ancestor = frame.parent; ancestor != null; ancestor = ancestor.parent) {
+            if (ancestor.consumerSchema == frame.consumerSchema && ancestor.providerSchema == frame.providerSchema) {
+                for (Frame partial = frame; partial != ancestor; partial = partial.parent) {
+                    partial.partial = true;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addError(Frame frame, ValidationError error) {
+        if (isCollecting()) {
+            errorFrames.add(frame);
+            errors.add(error);
+        }
+        incompatible = true;
+    }
+
+    private boolean isCollecting() {
+        return errors != null && !isFinished();
+    }
+
+    private List<ValidationError> errorsRelativeTo(Frame root) {
+        int firstError = root == null ? 0 : root.firstError;
+        List<ValidationError> relativeErrors = new ArrayList<>(errors.size() - firstError);
+
+        for (int error = firstError; error < errors.size(); error++) {
+            ValidationError relativeError = errors.get(error);
+            for (Frame frame = errorFrames.get(error); frame != root && frame.parent != null; frame = frame.parent) {
+                relativeError = relativeError.nested(frame.property);
+            }
+            relativeErrors.add(relativeError);
+        }
+
+        return relativeErrors;
+    }
+
+    private String path(Frame frame) {
+        Deque<String> properties = new ArrayDeque<>();
+        for (Frame current = frame; current.parent != null; current = current.parent) {
+            properties.push(current.property);
+        }
+
+        StringBuilder path = new StringBuilder("$");
+        properties.forEach(property -> path.append('.').append(property));
+        return path.toString();
+    }
+
+    private class FrameErrors implements ErrorSink {
+
+        @Override
+        public void notMatching(String schemaId, String keyword, Object consumerValue, Object providerValue) {
+            if (isCollecting()) {
+                addError(visited, ValidationError.notMatching(schemaId, keyword, consumerValue, providerValue));
+            }
+            incompatible = true;
+        }
+
+        @Override
+        public void notMatching(String schemaId, String keyword) {
+            if (isCollecting()) {
+                addError(visited, ValidationError.notMatching(schemaId, keyword));
+            }
+            incompatible = true;
+        }
+
+        @Override
+        public void notMatchingProperties(String schemaId, Set<String> consumerProperties,
+                                          Set<String> providerProperties) {
+            if (isCollecting()) {
+                addError(visited,
+                        ValidationError.notMatchingProperties(schemaId, consumerProperties, providerProperties));
+            }
+            incompatible = true;
+        }
+
+        @Override
+        public boolean isFull() {
+            return isFinished();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Frame {
+        private final JsonSchema consumerSchema;
+        private final JsonSchema providerSchema;
+        private final int providerNode;
+        private final Frame parent;
+        private final String property;
+        private final int depth;
+        private final boolean exit;
+        private int firstError;
+        private boolean partial;
+
+        private Frame(JsonSchema consumerSchema, JsonSchema providerSchema, int providerNode, Frame parent,
+                      String property, int depth) {
+            this(consumerSchema, providerSchema, providerNode, parent, property, depth, false);
+        }
+
+        private Frame exit() {
+            return new Frame(consumerSchema, providerSchema, providerNode, this, property, depth, true);
+        }
+    }
+}
@@ -1,23 +1,23 @@
 package com.hltech.vaunt.validator.schema;
 
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.hltech.vaunt.core.VauntListener;
+import com.hltech.vaunt.validator.ValidationError;
+import com.hltech.vaunt.validator.ValidationMode;
 import com.hltech.vaunt.validator.VauntValidationException;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
 public class SchemaValidator {
 
-    static final String UNMATCHING_SCHEMA_TYPE =
-            "Consumer schema with id %s and type %s does not match provider schema with id %s and type %s";
-    private static final String VALIDATOR_SEARCH_ERROR =
-            "Exactly one validator should exist for consumer and provider of type %s";
+    public static final int DEFAULT_MAX_DEPTH = 1_000;
 
-    private static final Set<JsonSchemaValidator> schemaValidators = new HashSet<>();
+    private static final Set<JsonSchemaValidator> schemaValidators = new CopyOnWriteArraySet<>();
+    private static volatile ValidatorRegistry registry = newRegistry(0);
 
     static {
         schemaValidators.addAll(Sets.newHashSet(
@@ -30,26 +30,139 @@ public class SchemaValidator {
         ));
     }
 
+    @Deprecated
     public static List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return findErrors(consumerSchema, providerSchema).stream()
+                .map(ValidationError::toString)
+                .collect(Collectors.toList());
+    }
 
-        if (!(consumerSchema.getClass() == providerSchema.getClass())) {
-            return Lists.newArrayList(
-                    String.format(UNMATCHING_SCHEMA_TYPE,
-                            consumerSchema.getId(),
-                            consumerSchema.getClass().getSimpleName(),
-                            providerSchema.getId(),
-                            providerSchema.getClass().getSimpleName()));
-        }
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return findErrors(consumerSchema, providerSchema, ValidationMode.ALL);
+    }
 
-        List<JsonSchemaValidator> matchingValidators = schemaValidators.stream()
-                .filter(v -> v.supportsSchemaType().equals(consumerSchema.getClass()))
-                .collect(Collectors.toList());
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, JsonSchema providerSchema,
+                                                   ValidationMode mode) {
+        return findErrors(consumerSchema, SchemaReferences.NONE, providerSchema, SchemaReferences.NONE, mode);
+    }
+
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                                   JsonSchema providerSchema, SchemaReferences providerReferences,
+                                                   ValidationMode mode) {
+        return findErrors(consumerSchema, consumerReferences, providerSchema, providerReferences, mode, null);
+    }
+
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                                   JsonSchema providerSchema, SchemaReferences providerReferences,
+                                                   ValidationMode mode, SchemaCompatibilityCache cache) {
+        return findErrors(consumerSchema, consumerReferences, providerSchema, providerReferences, mode, cache,
+                VauntListener.NO_OP);
+    }
+
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                                   JsonSchema providerSchema, SchemaReferences providerReferences,
+                                                   ValidationMode mode, SchemaCompatibilityCache cache,
+                                                   VauntListener listener) {
+        return findErrors(consumerSchema, consumerReferences, providerSchema, providerReferences, mode, cache,
+                listener, DEFAULT_MAX_DEPTH);
+    }
+
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                                   JsonSchema providerSchema, SchemaReferences providerReferences,
+                                                   ValidationMode mode, SchemaCompatibilityCache cache,
+                                                   VauntListener listener, int maxDepth) {
+        return traversal(mode, consumerReferences, providerReferences, null, cache, listener, maxDepth)
+                .traverse(consumerSchema, providerSchema);
+    }
+
+    public static List<ValidationError> findErrors(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                                   CompiledSchema providerSchema, ValidationMode mode,
+                                                   SchemaCompatibilityCache cache, VauntListener listener,
+                                                   int maxDepth) {
+        CompiledSchema compiledProvider = recompileIfStale(providerSchema);
+
+        return traversal(mode, consumerReferences, compiledProvider.getReferences(), compiledProvider, cache,
+                listener, maxDepth).traverse(consumerSchema, compiledProvider.getSchema());
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        return isCompatible(consumerSchema, SchemaReferences.NONE, providerSchema, SchemaReferences.NONE);
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                       JsonSchema providerSchema, SchemaReferences providerReferences) {
+        return isCompatible(consumerSchema, consumerReferences, providerSchema, providerReferences, null);
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                       JsonSchema providerSchema, SchemaReferences providerReferences,
+                                       SchemaCompatibilityCache cache) {
+        return isCompatible(consumerSchema, consumerReferences, providerSchema, providerReferences, cache,
+                VauntListener.NO_OP);
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                       JsonSchema providerSchema, SchemaReferences providerReferences,
+                                       SchemaCompatibilityCache cache, VauntListener listener) {
+        return isCompatible(consumerSchema, consumerReferences, providerSchema, providerReferences, cache, listener,
+                DEFAULT_MAX_DEPTH);
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                       JsonSchema providerSchema, SchemaReferences providerReferences,
+                                       SchemaCompatibilityCache cache, VauntListener listener, int maxDepth) {
+        return traversal(ValidationMode.FAIL_FAST, consumerReferences, providerReferences, null, cache, listener,
+                maxDepth).isCompatible(consumerSchema, providerSchema);
+    }
+
+    public static boolean isCompatible(JsonSchema consumerSchema, SchemaReferences consumerReferences,
+                                       CompiledSchema providerSchema, SchemaCompatibilityCache cache,
+                                       VauntListener listener, int maxDepth) {
+        CompiledSchema compiledProvider = recompileIfStale(providerSchema);
+
+        return traversal(ValidationMode.FAIL_FAST, consumerReferences, compiledProvider.getReferences(),
+                compiledProvider, cache, listener, maxDepth)
+                .isCompatible(consumerSchema, compiledProvider.getSchema());
+    }
 
-        if (matchingValidators.size() != 1) {
-            throw new VauntValidationException(String.format(
-                    VALIDATOR_SEARCH_ERROR, consumerSchema.getClass().getSimpleName()));
+    public static CompiledSchema compile(JsonSchema schema, SchemaReferences references) {
+        return new CompiledSchema(schema, references, registry);
+    }
+
+    public static synchronized void registerValidator(JsonSchemaValidator validator) {
+        schemaValidators.removeIf(v -> v.supportsSchemaType().equals(validator.supportsSchemaType()));
+        schemaValidators.add(validator);
+        registry = newRegistry(registry.version() + 1);
+    }
+
+    private static SchemaTraversal traversal(ValidationMode mode, SchemaReferences consumerReferences,
+                                             SchemaReferences providerReferences, CompiledSchema compiledProvider,
+                                             SchemaCompatibilityCache cache, VauntListener listener,
+                                             int maxDepth) {
+        if (maxDepth < 0) {
+            throw new VauntValidationException("Maximum schema depth must not be negative: " + maxDepth);
         }
 
-        return matchingValidators.get(0).validate(consumerSchema, providerSchema);
+        boolean cacheable = consumerReferences == SchemaReferences.NONE && providerReferences == SchemaReferences.NONE;
+
+        return new SchemaTraversal(registry, cacheable ? cache : null, listener, maxDepth, mode,
+                consumerReferences, providerReferences, compiledProvider);
+    }
+
+    private static CompiledSchema recompileIfStale(CompiledSchema schema) {
+        return schema.isCompiledWith(registry) ? schema : compile(schema.getSchema(), schema.getReferences());
+    }
+
+    private static ValidatorRegistry newRegistry(int version) {
+        return new ValidatorRegistry(new ClassValue<JsonSchemaValidator>() {
+            @Override
+            protected JsonSchemaValidator computeValue(Class<?> schemaType) {
+                List<JsonSchemaValidator> matchingValidators = schemaValidators.stream()
+                        .filter(v -> v.supportsSchemaType().equals(schemaType))
+                        .collect(Collectors.toList());
+
+                return matchingValidators.size() == 1 ? matchingValidators.get(0) : null;
+            }
+        }, version);
     }
 }
@@ -4,52 +4,52 @@ import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.LinkDescriptionObject;
 import com.fasterxml.jackson.module.jsonSchema.types.SimpleTypeSchema;
 
-import java.util.List;
 import java.util.Objects;
 
 public abstract class SimpleTypeSchemaValidator extends JsonSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         SimpleTypeSchema consumerSimpleTypeSchema = consumerSchema.asSimpleTypeSchema();
         SimpleTypeSchema providerSimpleTypeSchema = providerSchema.asSimpleTypeSchema();
 
         if (!isValid(consumerSimpleTypeSchema.getDefault(), providerSimpleTypeSchema.getDefault())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "default",
                     consumerSimpleTypeSchema.getDefault(),
-                    providerSimpleTypeSchema.getDefault()));
+                    providerSimpleTypeSchema.getDefault());
         }
 
         if (!isArrayValid(consumerSimpleTypeSchema.getLinks(),
                 providerSimpleTypeSchema.getLinks(),
                 SimpleTypeSchemaValidator::equalsLinkDescriptionObject)) {
 
-            errors.add(String.format(ERROR_FORMAT_SHORT,
+            errors.notMatching(
                     consumerSchema.getId(),
-                    "links"));
+                    "links");
         }
 
         if (!isValid(consumerSimpleTypeSchema.getPathStart(), providerSimpleTypeSchema.getPathStart())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "pathStart",
                     consumerSimpleTypeSchema.getPathStart(),
-                    providerSimpleTypeSchema.getPathStart()));
+                    providerSimpleTypeSchema.getPathStart());
         }
 
         if (!isValid(consumerSimpleTypeSchema.getTitle(), providerSimpleTypeSchema.getTitle())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "title",
                     consumerSimpleTypeSchema.getTitle(),
-                    providerSimpleTypeSchema.getTitle()));
+                    providerSimpleTypeSchema.getTitle());
         }
-
-        return errors;
     }
 
     private static boolean equalsLinkDescriptionObject(LinkDescriptionObject ob1, LinkDescriptionObject ob2) {
@@ -3,42 +3,41 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.StringSchema;
 
-import java.util.List;
-
 public class StringSchemaValidator extends ValueTypeSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         StringSchema consumerStringSchema = consumerSchema.asStringSchema();
         StringSchema providerStringSchema = providerSchema.asStringSchema();
 
         if (!isValid(consumerStringSchema.getMinLength(), providerStringSchema.getMinLength())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerStringSchema.getId(),
                     "minLength",
                     consumerStringSchema.getMinLength(),
-                    providerStringSchema.getMinLength()));
+                    providerStringSchema.getMinLength());
         }
 
         if (!isValid(consumerStringSchema.getMaxLength(), providerStringSchema.getMaxLength())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerStringSchema.getId(),
                     "maxLength",
                     consumerStringSchema.getMaxLength(),
-                    providerStringSchema.getMaxLength()));
+                    providerStringSchema.getMaxLength());
         }
 
         if (!isValid(consumerStringSchema.getPattern(), providerStringSchema.getPattern())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerStringSchema.getId(),
                     "pattern",
                     consumerStringSchema.getPattern(),
-                    providerStringSchema.getPattern()));
+                    providerStringSchema.getPattern());
         }
-
-        return errors;
     }
 
     @Override
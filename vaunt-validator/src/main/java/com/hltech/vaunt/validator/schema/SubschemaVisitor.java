@@ -0,0 +1,9 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+
+@FunctionalInterface
+public interface SubschemaVisitor {
+
+    void visit(String property, JsonSchema consumerSchema, JsonSchema providerSchema);
+}
@@ -0,0 +1,8 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
+
+public interface TraversableSchemaValidator {
+
+    void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors, SubschemaVisitor subschemas);
+}
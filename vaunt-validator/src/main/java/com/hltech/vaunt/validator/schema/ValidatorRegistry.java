@@ -0,0 +1,31 @@
+package com.hltech.vaunt.validator.schema;
+
+import com.hltech.vaunt.validator.VauntValidationException;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class ValidatorRegistry {
+
+    private static final String VALIDATOR_SEARCH_ERROR =
+            "Exactly one validator should exist for consumer and provider of type %s";
+
+    private final ClassValue<JsonSchemaValidator> validators;
+    private final int version;
+
+    JsonSchemaValidator get(Class<?> schemaType) {
+        JsonSchemaValidator validator = find(schemaType);
+        if (validator == null) {
+            throw new VauntValidationException(String.format(VALIDATOR_SEARCH_ERROR, schemaType.getSimpleName()));
+        }
+
+        return validator;
+    }
+
+    JsonSchemaValidator find(Class<?> schemaType) {
+        return validators.get(schemaType);
+    }
+
+    int version() {
+        return version;
+    }
+}
@@ -3,33 +3,42 @@ package com.hltech.vaunt.validator.schema;
 import com.fasterxml.jackson.module.jsonSchema.JsonSchema;
 import com.fasterxml.jackson.module.jsonSchema.types.ValueTypeSchema;
 
-import java.util.List;
-
 public abstract class ValueTypeSchemaValidator extends SimpleTypeSchemaValidator {
 
     @Override
-    public List<String> validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
-        List<String> errors = super.validate(consumerSchema, providerSchema);
+    public void check(JsonSchema consumerSchema, JsonSchema providerSchema, ErrorSink errors) {
+        super.check(consumerSchema, providerSchema, errors);
+        if (errors.isFull()) {
+            return;
+        }
 
         ValueTypeSchema consumerValueTypeSchema = consumerSchema.asValueTypeSchema();
         ValueTypeSchema providerValueTypeSchema = providerSchema.asValueTypeSchema();
 
         if (!isEnumValid(consumerValueTypeSchema.getEnums(), providerValueTypeSchema.getEnums())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "enums",
                     consumerValueTypeSchema.getEnums(),
-                    providerValueTypeSchema.getEnums()));
+                    providerValueTypeSchema.getEnums());
         }
 
         if (!isValid(consumerValueTypeSchema.getFormat(), providerValueTypeSchema.getFormat())) {
-            errors.add(String.format(ERROR_FORMAT,
+            errors.notMatching(
                     consumerSchema.getId(),
                     "format",
                     consumerValueTypeSchema.getFormat(),
-                    providerValueTypeSchema.getFormat()));
+                    providerValueTypeSchema.getFormat());
         }
+    }
+
+    @Override
+    public boolean isCompatible(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        ValueTypeSchema consumerValueTypeSchema = consumerSchema.asValueTypeSchema();
+        ValueTypeSchema providerValueTypeSchema = providerSchema.asValueTypeSchema();
 
-        return errors;
+        return super.isCompatible(consumerSchema, providerSchema)
+                && isEnumValid(consumerValueTypeSchema.getEnums(), providerValueTypeSchema.getEnums())
+                && isValid(consumerValueTypeSchema.getFormat(), providerValueTypeSchema.getFormat());
     }
 }
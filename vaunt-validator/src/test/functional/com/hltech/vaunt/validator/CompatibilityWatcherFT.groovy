@@ -0,0 +1,298 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.core.VauntPhase
+import com.hltech.vaunt.core.VauntSerializer
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TOPIC
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
+class CompatibilityWatcherFT extends Specification {
+
+    def serializer = new VauntSerializer()
+
+    def lookups = new AtomicInteger()
+
+    def listener = new VauntListener() {
+        @Override
+        void onPhase(VauntPhase phase, int contractCount, long durationNanos) {
+            if (phase == VauntPhase.CONTRACT_LOOKUP) {
+                lookups.incrementAndGet()
+            }
+        }
+    }
+
+    Path directory = Files.createTempDirectory('vaunt')
+
+    @Subject
+    def watcher = new CompatibilityWatcher(directory, '*.json', new VauntValidator(listener), serializer)
+
+    def setup() {
+        write('orders.json', service('orders', [contract(QUEUE, 'orders', stringSchema('order'))], [:]))
+        write('payments.json', service('payments', [contract(TOPIC, 'payments', stringSchema('payment'))], [
+                orders: [contract(QUEUE, 'orders', stringSchema('order'))]
+        ]))
+        write('audit.json', service('audit', [], [
+                orders  : [contract(QUEUE, 'orders', stringSchema('order'))],
+                payments: [contract(TOPIC, 'payments', stringSchema('payment'))]
+        ]))
+        write('billing.json', service('billing', [], [
+                payments: [contract(TOPIC, 'payments', stringSchema('payment'))]
+        ]))
+    }
+
+    def cleanup() {
+        watcher.close()
+        directory.toFile().deleteDir()
+    }
+
+    def 'Should validate every edge of services found in directory on start'() {
+        when:
+            def graph = watcher.start()
+
+        then:
+            graph.edges.keySet() as List == [
+                    new CompatibilityGraph.Edge('audit', 'orders'),
+                    new CompatibilityGraph.Edge('audit', 'payments'),
+                    new CompatibilityGraph.Edge('billing', 'payments'),
+                    new CompatibilityGraph.Edge('payments', 'orders')
+            ]
+            graph.compatible
+            lookups.get() == 4
+    }
+
+    def 'Should revalidate only edges touching changed provider'() {
+        given:
+            watcher.start()
+            lookups.set(0)
+
+        when:
+            write('orders.json', service('orders', [contract(QUEUE, 'orders', integerSchema('order'))], [:]))
+            def graph = watcher.update(directory.resolve('orders.json'))
+
+        then:
+            lookups.get() == 2
+            graph.getResults('audit', 'orders')*.result == [FAILED]
+            graph.getResults('payments', 'orders')*.result == [FAILED]
+            graph.getResults('audit', 'payments')*.result == [OK]
+            graph.getResults('billing', 'payments')*.result == [OK]
+    }
+
+    def 'Should revalidate only edges touching changed consumer'() {
+        given:
+            watcher.start()
+            lookups.set(0)
+
+        when:
+            write('billing.json', service('billing', [], [
+                    orders: [contract(QUEUE, 'orders', integerSchema('order'))]
+            ]))
+            def graph = watcher.update(directory.resolve('billing.json'))
+
+        then:
+            lookups.get() == 1
+            graph.getResults('billing', 'payments') == []
+            graph.getResults('billing', 'orders')*.result == [FAILED]
+            graph.edges.size() == 4
+    }
+
+    def 'Should fail expectations towards deleted provider and drop edges of deleted consumer'() {
+        given:
+            watcher.start()
+
+        when:
+            Files.delete(directory.resolve('payments.json'))
+            def graph = watcher.update(directory.resolve('payments.json'))
+
+        then:
+            graph.getResults('payments', 'orders') == []
+            graph.getResults('audit', 'payments')[0].errors == ['Missing endpoint required by consumer']
+            graph.getResults('billing', 'payments')[0].errors == ['Missing endpoint required by consumer']
+            graph.getResults('audit', 'orders')*.result == [OK]
+    }
+
+    def 'Should report malformed file and keep remaining results'() {
+        given:
+            watcher.start()
+
+        when:
+            Files.write(directory.resolve('audit.json'), '{"name":"audit","capabilities":'.bytes)
+            def graph = watcher.update(directory.resolve('audit.json'))
+
+        then:
+            watcher.failures.keySet() == [directory.resolve('audit.json')] as Set
+            graph.edges.keySet() as List == [
+                    new CompatibilityGraph.Edge('billing', 'payments'),
+                    new CompatibilityGraph.Edge('payments', 'orders')
+            ]
+    }
+
+    def 'Should reject file introducing duplicated service name and keep previous state'() {
+        given:
+            watcher.start()
+
+        when:
+            write('copy.json', service('orders', [], [:]))
+            def graph = watcher.update(directory.resolve('copy.json'))
+
+        then:
+            watcher.failures.keySet() == [directory.resolve('copy.json')] as Set
+            watcher.failures.values()*.message == ['Service names must be unique, duplicated: orders']
+            graph.edges.size() == 4
+            graph.getResults('payments', 'orders')*.result == [OK]
+    }
+
+    def 'Should load hidden duplicate once file of registered service is deleted'() {
+        given:
+            write('copy.json', service('orders', [contract(QUEUE, 'orders', integerSchema('order'))], [:]))
+            watcher.start()
+
+        when:
+            Files.delete(directory.resolve('orders.json'))
+            def graph = watcher.update(directory.resolve('orders.json'))
+
+        then:
+            watcher.failures.isEmpty()
+            graph.getResults('payments', 'orders')*.result == [FAILED]
+            graph.getResults('audit', 'orders')*.result == [FAILED]
+    }
+
+    def 'Should drop service renamed to duplicated name'() {
+        given:
+            watcher.start()
+
+        when:
+            write('billing.json', service('orders', [], [:]))
+            def graph = watcher.update(directory.resolve('billing.json'))
+
+        then:
+            watcher.failures.keySet() == [directory.resolve('billing.json')] as Set
+            graph.edges.keySet() as List == [
+                    new CompatibilityGraph.Edge('audit', 'orders'),
+                    new CompatibilityGraph.Edge('audit', 'payments'),
+                    new CompatibilityGraph.Edge('payments', 'orders')
+            ]
+            graph.getResults('payments', 'orders')*.result == [OK]
+    }
+
+    def 'Should drop services of deleted directory'() {
+        given:
+            watcher.close()
+            watcher = new CompatibilityWatcher(directory, '**.json', new VauntValidator(listener), serializer)
+            Files.createDirectory(directory.resolve('shipping'))
+            write('shipping/shipping.json', service('shipping', [], [
+                    orders: [contract(QUEUE, 'orders', stringSchema('order'))]
+            ]))
+            write('shipping/broken.json', service('shipping', [], [:]))
+            watcher.start()
+
+        when:
+            directory.resolve('shipping').toFile().deleteDir()
+            def graph = watcher.update(directory.resolve('shipping'))
+
+        then:
+            watcher.failures.isEmpty()
+            graph.getResults('shipping', 'orders') == []
+            graph.edges.size() == 4
+    }
+
+    def 'Should ignore subdirectories not matched by glob'() {
+        given:
+            Files.createDirectory(directory.resolve('shipping'))
+            write('shipping/shipping.json', service('shipping', [], [
+                    orders: [contract(QUEUE, 'orders', stringSchema('order'))]
+            ]))
+
+        when:
+            watcher.start()
+            def graph = watcher.update(directory.resolve('shipping/shipping.json'))
+
+        then:
+            watcher.failures.isEmpty()
+            graph.getResults('shipping', 'orders') == []
+            graph.edges.size() == 4
+    }
+
+    def 'Should pick up changed files through watch service'() {
+        given:
+            watcher.start()
+
+        when:
+            write('orders.json', service('orders', [contract(QUEUE, 'orders', integerSchema('order'))], [:]))
+            def graph = waitFor { it.getResults('payments', 'orders')*.result == [FAILED] }
+
+        then:
+            graph.getResults('audit', 'orders')*.result == [FAILED]
+            graph.getResults('billing', 'payments')*.result == [OK]
+    }
+
+    def 'Should pick up files in directories created after start'() {
+        given:
+            watcher.close()
+            watcher = new CompatibilityWatcher(directory, '**.json', new VauntValidator(listener), serializer)
+            watcher.start()
+
+        when:
+            Files.createDirectory(directory.resolve('shipping'))
+            write('shipping/shipping.json', service('shipping', [], [
+                    orders: [contract(QUEUE, 'orders', stringSchema('order'))]
+            ]))
+            def graph = waitFor { it.getResults('shipping', 'orders')*.result == [OK] }
+
+        then:
+            graph.edges.size() == 5
+    }
+
+    private CompatibilityGraph waitFor(Closure<Boolean> condition) {
+        def deadline = System.currentTimeMillis() + 30000
+        while (System.currentTimeMillis() < deadline) {
+            def graph = watcher.poll(1, TimeUnit.SECONDS)
+            if (graph.present && condition(graph.get())) {
+                return graph.get()
+            }
+        }
+        throw new AssertionError('Change was not detected by watch service')
+    }
+
+    private void write(String fileName, Service service) {
+        Files.write(directory.resolve(fileName), serializer.serialize(service).bytes)
+    }
+
+    private static Service service(String name, List<Contract> capabilities, Map<String, List<Contract>> expectations) {
+        def providerNameToContracts = ArrayListMultimap.create()
+        expectations.each { providerName, contracts -> providerNameToContracts.putAll(providerName, contracts) }
+        new Service(name, new Capabilities(capabilities), new Expectations(providerNameToContracts))
+    }
+
+    private static Contract contract(destinationType, String destinationName, schema) {
+        new Contract(destinationType, destinationName, schema)
+    }
+
+    private static StringSchema stringSchema(String id) {
+        def schema = new StringSchema()
+        schema.id = id
+        schema
+    }
+
+    private static IntegerSchema integerSchema(String id) {
+        def schema = new IntegerSchema()
+        schema.id = id
+        schema
+    }
+}
@@ -0,0 +1,112 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.ForkJoinPool
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TOPIC
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
+class ValidateAllServicesFT extends Specification {
+
+    @Subject
+    VauntValidator validator = new VauntValidator()
+
+    def 'Should validate every consumer provider edge and key results by consumer and provider'() {
+        given:
+            def orders = service('orders', [contract(QUEUE, 'orders', stringSchema('order'))], [
+                    payments: [contract(TOPIC, 'payments', stringSchema('payment'))]
+            ])
+            def payments = service('payments', [contract(TOPIC, 'payments', stringSchema('payment'))], [
+                    orders: [contract(QUEUE, 'orders', integerSchema('order'))]
+            ])
+            def audit = service('audit', [], [
+                    orders  : [contract(QUEUE, 'orders', stringSchema('order'))],
+                    payments: [contract(TOPIC, 'payments', stringSchema('payment'))]
+            ])
+
+        when:
+            def graph = validator.validateAll([payments, orders, audit], new ForkJoinPool(4))
+
+        then:
+            graph.edges.keySet() as List == [
+                    new CompatibilityGraph.Edge('audit', 'orders'),
+                    new CompatibilityGraph.Edge('audit', 'payments'),
+                    new CompatibilityGraph.Edge('orders', 'payments'),
+                    new CompatibilityGraph.Edge('payments', 'orders')
+            ]
+
+        and:
+            graph.getResults('audit', 'orders')*.result == [OK]
+            graph.getResults('audit', 'payments')*.result == [OK]
+            graph.getResults('orders', 'payments')*.result == [OK]
+            graph.getResults('payments', 'orders')*.result == [FAILED]
+            graph.getResults('orders', 'audit') == []
+
+        and:
+            !graph.compatible
+            graph.incompatibleEdges.keySet() == [new CompatibilityGraph.Edge('payments', 'orders')] as Set
+    }
+
+    def 'Should fail expectations towards provider missing from validated services'() {
+        given:
+            def consumer = service('consumer', [], [unknown: [contract(QUEUE, 'queue', stringSchema('id'))]])
+
+        when:
+            def graph = validator.validateAll([consumer])
+
+        then:
+            graph.getResults('consumer', 'unknown')*.result == [FAILED]
+            graph.getResults('consumer', 'unknown')[0].errors == ['Missing endpoint required by consumer']
+    }
+
+    def 'Should give same results as pairwise validation'() {
+        given:
+            def provider = service('provider', [contract(QUEUE, 'queue', stringSchema('id'))], [:])
+            def consumer = service('consumer', [], [provider: [contract(QUEUE, 'queue', stringSchema('id'))]])
+
+        expect:
+            validator.validateAll([consumer, provider]).getResults('consumer', 'provider')*.name ==
+                    validator.validate(consumer, provider)*.name
+    }
+
+    def 'Should reject services with duplicated names'() {
+        when:
+            validator.validateAll([service('service', [], [:]), service('service', [], [:])])
+
+        then:
+            thrown(VauntValidationException)
+    }
+
+    private static Service service(String name, List<Contract> capabilities, Map<String, List<Contract>> expectations) {
+        def providerNameToContracts = ArrayListMultimap.create()
+        expectations.each { providerName, contracts -> providerNameToContracts.putAll(providerName, contracts) }
+        new Service(name, new Capabilities(capabilities), new Expectations(providerNameToContracts))
+    }
+
+    private static Contract contract(destinationType, String destinationName, schema) {
+        new Contract(destinationType, destinationName, schema)
+    }
+
+    private static StringSchema stringSchema(String id) {
+        def schema = new StringSchema()
+        schema.id = id
+        schema
+    }
+
+    private static IntegerSchema integerSchema(String id) {
+        def schema = new IntegerSchema()
+        schema.id = id
+        schema
+    }
+}
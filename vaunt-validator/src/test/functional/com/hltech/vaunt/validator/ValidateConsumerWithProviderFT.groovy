@@ -7,6 +7,8 @@ import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
 import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
 import com.google.common.collect.ArrayListMultimap
 import com.google.common.collect.Lists
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.core.VauntPhase
 import com.hltech.vaunt.core.domain.model.Capabilities
 import com.hltech.vaunt.core.domain.model.Contract
 import com.hltech.vaunt.core.domain.model.Expectations
@@ -212,6 +214,79 @@ class ValidateConsumerWithProviderFT extends Specification {
             validationResults[0].errors[1] == 'Schema with id sSch has not matching minLength - consumer: 1234, provider: 4321'
     }
 
+    def 'Fail fast validation should stop at the first incompatibility of a contract'() {
+        given:
+            def failFastValidator = new VauntValidator(ValidationMode.FAIL_FAST)
+            def consumerContract = new Contract(TOPIC, 'topic', sampleJsonSchema('id1'))
+            def providerContract = new Contract(TOPIC, 'topic', sampleJsonSchema('id1', 'bSch', 4321, 4321))
+
+            ArrayListMultimap<String, Contract> providerNameToContracts = ArrayListMultimap.create()
+            providerNameToContracts.put('provider', consumerContract)
+
+            def consumer = new Service('consumer', null, new Expectations(providerNameToContracts))
+            def provider = new Service('provider', new Capabilities(Lists.newArrayList(providerContract)), null)
+
+        when:
+            def validationResults = failFastValidator.validate(consumer, provider)
+
+        then:
+            validationResults.size() == 1
+            validationResults[0].result == FAILED
+            validationResults[0].errors == ['Schema with id nSch has not matching multipleOf - consumer: 1234.0, provider: 4321.0']
+    }
+
+    @Unroll
+    def 'Consumer and provider should be #description when provider message is #providerMessage'() {
+        given:
+            def consumerContract = new Contract(QUEUE, 'queue', sampleJsonSchema('id1'))
+
+            ArrayListMultimap<String, Contract> providerNameToContracts = ArrayListMultimap.create()
+            providerNameToContracts.put('provider', consumerContract)
+
+            def consumer = new Service('consumer', null, new Expectations(providerNameToContracts))
+            def provider = new Service('provider', new Capabilities(providerContracts), null)
+
+        expect:
+            validator.isCompatible(consumer, provider) == compatible
+            validator.isCompatible([consumerContract], providerContracts) == compatible
+
+        where:
+            providerMessage    | providerContracts                                                                             || compatible
+            'matching'         | [new Contract(QUEUE, 'queue', sampleJsonSchema('id1'))]                                       || true
+            'different'        | [new Contract(QUEUE, 'queue', sampleJsonSchema('id1', 'bSch', 4321))]                         || false
+            'missing'          | [new Contract(TOPIC, 'queue', sampleJsonSchema('id1'))]                                       || false
+            'with another id'  | [new Contract(QUEUE, 'queue', sampleJsonSchema('id2'))]                                       || false
+            'duplicated'       | [new Contract(QUEUE, 'queue', sampleJsonSchema('id1'))] * 2                                   || false
+            description = compatible ? 'compatible' : 'incompatible'
+    }
+
+    def 'Validation should report lookup, comparison and schema type timings to listener'() {
+        given:
+            def listener = Mock(VauntListener)
+            def listeningValidator = new VauntValidator(listener)
+
+            def consumerContract = new Contract(QUEUE, 'queue', sampleJsonSchema('id1'))
+            def providerContract = new Contract(QUEUE, 'queue', sampleJsonSchema('id1'))
+
+            ArrayListMultimap<String, Contract> providerNameToContracts = ArrayListMultimap.create()
+            providerNameToContracts.put('provider', consumerContract)
+
+            def consumer = new Service('consumer', null, new Expectations(providerNameToContracts))
+            def provider = new Service('provider', new Capabilities(Lists.newArrayList(providerContract)), null)
+
+        when:
+            listeningValidator.validate(consumer, provider)
+
+        then:
+            _ * listener.nanoTime() >> { System.nanoTime() }
+            1 * listener.onPhase(VauntPhase.CAPABILITIES_INDEXING, 1, _)
+            1 * listener.onPhase(VauntPhase.CONTRACT_LOOKUP, 1, _)
+            1 * listener.onPhase(VauntPhase.SCHEMA_COMPARISON, 1, { it > 0 })
+            2 * listener.onSchemaValidation(ObjectSchema, _)
+            1 * listener.onSchemaValidation(StringSchema, _)
+            1 * listener.onSchemaValidation(NumberSchema, _)
+    }
+
     def sampleJsonSchema(def id, def bId = 'bSch', def mOf = 1234, def mLe = 1234) {
         new ObjectSchema(
                 'id': id,
@@ -0,0 +1,76 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.SchemaLoading
+import com.hltech.vaunt.core.VauntSerializer
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TOPIC
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
+class ValidateLazilyLoadedServicesFT extends Specification {
+
+    def serializer = new VauntSerializer()
+
+    @Subject
+    VauntValidator validator = new VauntValidator()
+
+    Path directory = Files.createTempDirectory('vaunt')
+
+    def cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    def 'Should parse only contracts matched by destination and message id'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(QUEUE, 'orders', new StringSchema(id: 'order')))
+            expectations.put('other', new Contract(QUEUE, 'others', new StringSchema(id: 'other')))
+            def consumer = read(new Service('consumer', new Capabilities([]), new Expectations(expectations)))
+            def provider = read(new Service('provider', new Capabilities([
+                    new Contract(QUEUE, 'orders', new StringSchema(id: 'order')),
+                    new Contract(QUEUE, 'orders', new StringSchema(id: 'refund')),
+                    new Contract(TOPIC, 'payments', new StringSchema(id: 'payment'))
+            ]), new Expectations(ArrayListMultimap.create())))
+
+        when:
+            def results = validator.validate(consumer, provider)
+
+        then:
+            results*.result == [OK]
+            consumer.expectations.providerNameToContracts.values()*.messageLoaded == [false, true]
+            provider.capabilities.contracts*.messageLoaded == [true, false, false]
+    }
+
+    def 'Should report mismatch of lazily parsed contracts'() {
+        given:
+            def expectations = ArrayListMultimap.create()
+            expectations.put('provider', new Contract(QUEUE, 'orders', new StringSchema(id: 'order')))
+            def consumer = read(new Service('consumer', new Capabilities([]), new Expectations(expectations)))
+            def provider = read(new Service('provider', new Capabilities([
+                    new Contract(QUEUE, 'orders', new IntegerSchema(id: 'order'))
+            ]), new Expectations(ArrayListMultimap.create())))
+
+        expect:
+            validator.validate(consumer, provider)*.result == [FAILED]
+            !validator.isCompatible(consumer, provider)
+    }
+
+    private Service read(Service service) {
+        def file = directory.resolve("${service.name}.json")
+        Files.write(file, serializer.serializeToBytes(service))
+        serializer.readServiceDefinition(file, SchemaLoading.LAZY)
+    }
+}
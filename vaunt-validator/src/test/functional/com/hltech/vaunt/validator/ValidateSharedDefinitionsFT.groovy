@@ -0,0 +1,155 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.google.common.collect.ArrayListMultimap
+import com.hltech.vaunt.core.SchemaLayout
+import com.hltech.vaunt.core.SerializationFormat
+import com.hltech.vaunt.core.VauntSerializer
+import com.hltech.vaunt.core.domain.model.Capabilities
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.Expectations
+import com.hltech.vaunt.core.domain.model.Service
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.nio.file.Files
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
+class ValidateSharedDefinitionsFT extends Specification {
+
+    def serializer = new VauntSerializer()
+
+    @Subject
+    VauntValidator validator = new VauntValidator()
+
+    @Unroll
+    def 'Should give same results for shared definitions as for inlined schemas when provider street is #providerStreet.class.simpleName'() {
+        given:
+            def consumer = consumer(order(new StringSchema(id: 'street')))
+            def provider = provider(order(providerStreet))
+
+        when:
+            def results = validator.validate(shared(consumer), shared(provider))
+
+        then:
+            !shared(consumer).definitions.isEmpty()
+            results*.result == [expectedResult]
+            results*.errors == validator.validate(consumer, provider)*.errors
+            validator.isCompatible(shared(consumer), shared(provider)) == (expectedResult == OK)
+
+        and:
+            validator.validateAll([shared(consumer), shared(provider)]).getResults('consumer', 'provider')*.errors ==
+                    results*.errors
+
+        where:
+            providerStreet               || expectedResult
+            new StringSchema(id: 'street')  || OK
+            new IntegerSchema(id: 'street') || FAILED
+    }
+
+    def 'Should resolve references of consumer and provider against their own definitions'() {
+        given:
+            def consumer = withDefinitions(
+                    consumer(new ObjectSchema(id: 'order', properties: [billing: reference('Address')])),
+                    [Address: address(new StringSchema(id: 'street'))])
+            def provider = withDefinitions(
+                    provider(new ObjectSchema(id: 'order', properties: [billing: reference('Address')])),
+                    [Address: address(new IntegerSchema(id: 'street'))])
+
+        when:
+            def results = validator.validate(consumer, provider)
+
+        then:
+            results*.result == [FAILED]
+            results[0].errors.size() == 1
+    }
+
+    def 'Should validate recursive definitions'() {
+        given:
+            def node = new ObjectSchema(id: 'Node', properties: [value: new StringSchema(id: 'value'), next: reference('Node')])
+            def consumer = withDefinitions(
+                    consumer(new ObjectSchema(id: 'order', properties: [head: reference('Node')])), [Node: node])
+            def provider = withDefinitions(
+                    provider(new ObjectSchema(id: 'order', properties: [head: reference('Node')])), [Node: node])
+
+        expect:
+            validator.validate(consumer, provider)*.result == [OK]
+    }
+
+    def 'Should reject cyclic references'() {
+        given:
+            def consumer = withDefinitions(
+                    consumer(new ObjectSchema(id: 'order', properties: [billing: reference('A')])),
+                    [A: reference('B'), B: reference('A')])
+            def provider = provider(order(new StringSchema(id: 'street')))
+
+        when:
+            validator.validate(consumer, provider)
+
+        then:
+            def ex = thrown VauntValidationException
+            ex.message == 'Cyclic schema reference: #/definitions/A -> #/definitions/B -> #/definitions/A'
+    }
+
+    def 'Should reject unresolvable references'() {
+        given:
+            def consumer = withDefinitions(
+                    consumer(new ObjectSchema(id: 'order', properties: [billing: reference('Missing')])),
+                    [Address: address(new StringSchema(id: 'street'))])
+            def provider = provider(order(new StringSchema(id: 'street')))
+
+        when:
+            validator.validate(consumer, provider)
+
+        then:
+            def ex = thrown VauntValidationException
+            ex.message == 'Unresolvable schema reference: #/definitions/Missing'
+    }
+
+    private Service shared(Service service) {
+        def file = Files.createTempFile('service', '.json')
+        try {
+            Files.write(file, serializer.serializeToBytes(service, SerializationFormat.JSON, SchemaLayout.SHARED_DEFINITIONS))
+            return serializer.readServiceDefinition(file)
+        } finally {
+            Files.delete(file)
+        }
+    }
+
+    private static Service consumer(JsonSchema message) {
+        def providerNameToContracts = ArrayListMultimap.create()
+        providerNameToContracts.put('provider', new Contract(QUEUE, 'orders', message))
+        new Service('consumer', new Capabilities([]), new Expectations(providerNameToContracts))
+    }
+
+    private static Service provider(JsonSchema message) {
+        new Service('provider', new Capabilities([new Contract(QUEUE, 'orders', message)]),
+                new Expectations(ArrayListMultimap.create()))
+    }
+
+    private static Service withDefinitions(Service service, Map<String, JsonSchema> definitions) {
+        service.definitions = definitions
+        service
+    }
+
+    private static ObjectSchema order(JsonSchema street) {
+        new ObjectSchema(id: 'order', properties: [billing: address(street), shipping: address(street)])
+    }
+
+    private static ObjectSchema address(JsonSchema street) {
+        new ObjectSchema(id: 'Address', properties: [street: street])
+    }
+
+    private static ObjectSchema reference(String name) {
+        def schema = new ObjectSchema()
+        schema.set$ref("#/definitions/$name")
+        schema
+    }
+}
@@ -0,0 +1,61 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.core.domain.model.DestinationType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TEMPORARY_QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TOPIC
+
+class CapabilitiesIndexUT extends Specification {
+
+    def 'Should index capabilities by endpoint and message id'() {
+        given:
+            def first = contract(QUEUE, 'queue', 'id1')
+            def second = contract(QUEUE, 'queue', 'id2')
+            def third = contract(TOPIC, 'queue', 'id1')
+
+        when:
+            def index = CapabilitiesIndex.of([first, second, third])
+
+        then:
+            index.findEndpointContracts(contract(QUEUE, 'queue', 'any')).get('id1') == [first]
+            index.findEndpointContracts(contract(QUEUE, 'queue', 'any')).get('id2') == [second]
+            index.findEndpointContracts(contract(TOPIC, 'queue', 'any')).get('id1') == [third]
+            index.findEndpointContracts(contract(TOPIC, 'queue', 'any')).get('id2') == []
+    }
+
+    @Unroll
+    def 'Should find no contracts for endpoint #destinationType #destinationName not exposed by provider'() {
+        given:
+            def index = CapabilitiesIndex.of([contract(QUEUE, 'queue', 'id1'), contract(TEMPORARY_QUEUE, 'tmp', 'id1')])
+
+        expect:
+            index.findEndpointContracts(contract(destinationType, destinationName, 'id1')).isEmpty()
+
+        where:
+            destinationType | destinationName
+            TOPIC           | 'queue'
+            QUEUE           | 'topic'
+            QUEUE           | 'tmp'
+    }
+
+    def 'Should match temporary queues regardless of destination name'() {
+        given:
+            def first = contract(TEMPORARY_QUEUE, 'a name', 'id1')
+            def second = contract(TEMPORARY_QUEUE, 'another name', 'id1')
+
+        when:
+            def index = CapabilitiesIndex.of([first, second, contract(QUEUE, 'a name', 'id1')])
+
+        then:
+            index.findEndpointContracts(contract(TEMPORARY_QUEUE, 'yet another name', 'id1')).get('id1') == [first, second]
+    }
+
+    def contract(DestinationType destinationType, String destinationName, String id) {
+        new Contract(destinationType, destinationName, new StringSchema(id: id))
+    }
+}
@@ -0,0 +1,50 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class ValidationErrorUT extends Specification {
+
+    @Unroll
+    def 'Should render #kind error message'() {
+        expect:
+            error.kind == kind
+            error.message == message
+            error.toString() == message
+
+        where:
+            error                                                                                         || kind                                        | message
+            ValidationError.notMatching('a', 'title', 'ab', 'cd')                                         || ValidationError.Kind.NOT_MATCHING_VALUE      | 'Schema with id a has not matching title - consumer: ab, provider: cd'
+            ValidationError.notMatching('a', 'links')                                                     || ValidationError.Kind.NOT_MATCHING_KEYWORD    | 'Schema with id a has not matching links'
+            ValidationError.notMatchingProperties('a', ['b', 'c'] as LinkedHashSet, ['b'] as Set)         || ValidationError.Kind.NOT_MATCHING_PROPERTIES | 'Schema with id a has not matching properties - consumer: ids of properties: [b, c], provider: ids of properties: [b]'
+            ValidationError.notMatchingType(new StringSchema(id: 'a'), new IntegerSchema(id: 'b'))        || ValidationError.Kind.NOT_MATCHING_TYPE       | 'Consumer schema with id a and type StringSchema does not match provider schema with id b and type IntegerSchema'
+            ValidationError.missingEndpoint('a')                                                          || ValidationError.Kind.MISSING_ENDPOINT        | 'Missing endpoint required by consumer'
+            ValidationError.missingMessageWithId('a')                                                     || ValidationError.Kind.MISSING_MESSAGE_WITH_ID | 'Missing message with given id required by consumer'
+            ValidationError.multipleMatch('a')                                                            || ValidationError.Kind.MULTIPLE_MATCH          | 'More than one message with the same id for given endpoint'
+            ValidationError.message('Custom error')                                                       || ValidationError.Kind.MESSAGE                 | 'Custom error'
+    }
+
+    def 'Should render schema values by their ids'() {
+        given:
+            JsonSchema[] consumerValue = [new StringSchema(id: 'ab'), new StringSchema(id: 'cd')]
+            def providerValue = ['key': new StringSchema(id: 'ef')]
+
+        expect:
+            ValidationError.notMatching('a', 'extends', consumerValue, providerValue).message ==
+                    'Schema with id a has not matching extends - consumer: [JsonSchema(id=ab), JsonSchema(id=cd)], provider: {key=JsonSchema(id=ef)}'
+    }
+
+    def 'Should keep path of nested error starting from the outermost property'() {
+        when:
+            def error = ValidationError.notMatching('a', 'title').nested('inner').nested('outer')
+
+        then:
+            error.path.properties == ['outer', 'inner']
+            error.path.toString() == '$.outer.inner'
+            !error.path.root
+            ValidationError.notMatching('a', 'title').path.root
+    }
+}
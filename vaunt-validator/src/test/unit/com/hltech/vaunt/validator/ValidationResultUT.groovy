@@ -0,0 +1,36 @@
+package com.hltech.vaunt.validator
+
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.domain.model.Contract
+import spock.lang.Specification
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.FAILED
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
+class ValidationResultUT extends Specification {
+
+    def 'Should name result after validated contract'() {
+        given:
+            def contract = new Contract(QUEUE, 'queue', new StringSchema(id: 'a'))
+
+        when:
+            def result = ValidationResult.failure(contract, ValidationError.missingEndpoint('a'))
+
+        then:
+            result.name == contract.toString()
+            result.contract == contract
+            result.result == FAILED
+            result.errors == ['Missing endpoint required by consumer']
+    }
+
+    def 'Should keep building results from names and plain error messages'() {
+        expect:
+            ValidationResult.success('name').result == OK
+            ValidationResult.success('name').errors == []
+            ValidationResult.failure('name', 'error').errors == ['error']
+            ValidationResult.failure('name', ['first', 'second']).validationErrors*.kind ==
+                    [ValidationError.Kind.MESSAGE, ValidationError.Kind.MESSAGE]
+            ValidationResult.failure('name', ['first', 'second']).name == 'name'
+    }
+}
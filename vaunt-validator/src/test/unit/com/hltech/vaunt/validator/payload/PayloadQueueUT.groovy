@@ -0,0 +1,119 @@
+package com.hltech.vaunt.validator.payload
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+
+class PayloadQueueUT extends Specification {
+
+    def destination = new DestinationValidators(QUEUE, 'orders', [] as PayloadValidator[])
+
+    @Unroll
+    def 'Should round capacity #capacity up to power of two'() {
+        expect:
+            new PayloadQueue(capacity).capacity() == expectedCapacity
+
+        where:
+            capacity || expectedCapacity
+            1        || 1
+            3        || 4
+            64       || 64
+    }
+
+    def 'Should reject offers when full and accept them again after drain'() {
+        given:
+            def queue = new PayloadQueue(2)
+
+        expect:
+            queue.offer(destination, [1] as byte[])
+            queue.offer(destination, [2] as byte[])
+            !queue.offer(destination, [3] as byte[])
+
+        when:
+            def payloads = new byte[1][]
+            def count = queue.drain(new DestinationValidators[1], payloads)
+
+        then:
+            count == 1
+            payloads[0] == [1] as byte[]
+            queue.offer(destination, [3] as byte[])
+    }
+
+    def 'Should not be affected by reuse of offered payload buffer'() {
+        given:
+            def queue = new PayloadQueue(2)
+            def buffer = [1, 2] as byte[]
+            def payloads = new byte[1][]
+
+        when:
+            queue.offer(destination, buffer)
+            buffer[0] = 9
+            queue.drain(new DestinationValidators[1], payloads)
+
+        then:
+            payloads[0] == [1, 2] as byte[]
+    }
+
+    def 'Should queue owned payload buffer without copying it'() {
+        given:
+            def queue = new PayloadQueue(2)
+            def buffer = [1, 2] as byte[]
+            def payloads = new byte[1][]
+
+        when:
+            queue.offerOwned(destination, buffer)
+            queue.drain(new DestinationValidators[1], payloads)
+
+        then:
+            payloads[0].is(buffer)
+    }
+
+    def 'Should drain payloads in order up to batch size'() {
+        given:
+            def queue = new PayloadQueue(8)
+            (1..5).each { queue.offer(destination, [it] as byte[]) }
+            def destinations = new DestinationValidators[3]
+            def payloads = new byte[3][]
+
+        expect:
+            queue.drain(destinations, payloads) == 3
+            payloads.collect { it[0] } == [1, 2, 3]
+            destinations.every { it.is(destination) }
+            queue.drain(destinations, payloads) == 2
+            payloads.take(2).collect { it[0] } == [4, 5]
+            queue.isEmpty()
+            queue.drain(destinations, payloads) == 0
+    }
+
+    def 'Should pass every payload exactly once between concurrent producers and consumers'() {
+        given:
+            def queue = new PayloadQueue(64)
+            def received = Collections.synchronizedList([])
+            def producers = (0..<4).collect { producer ->
+                Thread.start {
+                    (0..<1000).each { value ->
+                        while (!queue.offer(destination, [producer, value >> 8, value & 0xFF] as byte[])) {
+                            Thread.yield()
+                        }
+                    }
+                }
+            }
+            def consumers = (0..<2).collect {
+                Thread.start {
+                    def payloads = new byte[16][]
+                    while (received.size() < 4000) {
+                        def count = queue.drain(new DestinationValidators[16], payloads)
+                        (0..<count).each { received << payloads[it].toList() }
+                    }
+                }
+            }
+
+        when:
+            (producers + consumers)*.join(30000)
+
+        then:
+            received.size() == 4000
+            received.toSet().size() == 4000
+    }
+}
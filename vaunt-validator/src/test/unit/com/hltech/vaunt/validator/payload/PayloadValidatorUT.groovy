@@ -0,0 +1,161 @@
+package com.hltech.vaunt.validator.payload
+
+import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ArraySchema
+import com.fasterxml.jackson.module.jsonSchema.types.BooleanSchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.NumberSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.validator.schema.SchemaReferences
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+
+class PayloadValidatorUT extends Specification {
+
+    def schema = new ObjectSchema(id: 'order', properties: [
+            id      : new IntegerSchema(id: 'id', required: true, minimum: 1),
+            status  : new StringSchema(id: 'status', enums: ['NEW', 'PAID'] as Set),
+            customer: new StringSchema(id: 'customer', minLength: 2, maxLength: 8, pattern: '^[a-z]+$'),
+            price   : new NumberSchema(id: 'price', minimum: 0, exclusiveMinimum: true),
+            express : new BooleanSchema(id: 'express'),
+            lines   : new ArraySchema(id: 'lines', maxItems: 2, items: new ArraySchema.SingleItems(
+                    new ObjectSchema(id: 'line', properties: [quantity: new IntegerSchema(id: 'quantity', divisibleBy: 5)])))
+    ])
+
+    def validator = PayloadValidator.compile(new Contract(QUEUE, 'orders', schema))
+
+    def 'Should accept payload conforming to contract'() {
+        given:
+            def payload = '{"id":1,"status":"PAID","customer":"john","price":9.99,"express":true,' +
+                    '"lines":[{"quantity":10},{"quantity":5}],"note":{"any":["thing"]}}'
+
+        expect:
+            validator.isValid(payload.bytes)
+            !validator.validate(payload.bytes).present
+    }
+
+    def 'Should accept null values of properties that are not required'() {
+        expect:
+            validator.isValid('{"id":1,"status":null,"lines":null}'.bytes)
+    }
+
+    @Unroll
+    def 'Should report #message at #path for #payload'() {
+        expect:
+            validator.validate(payload.bytes) == Optional.of(new PayloadViolation(path, message))
+            !validator.isValid(payload.bytes)
+
+        where:
+            payload                                     || path                  | message
+            '[]'                                        || ''                    | 'Expected object'
+            '{"status":"NEW"}'                          || ''                    | 'Missing required property: id'
+            '{"id":null}'                               || '/id'                 | 'Null value of required property'
+            '{"id":"1"}'                                || '/id'                 | 'Expected integer'
+            '{"id":1.5}'                                || '/id'                 | 'Expected integer'
+            '{"id":0}'                                  || '/id'                 | 'Value below minimum'
+            '{"id":1,"status":"SENT"}'                  || '/status'             | 'Value not allowed by enum'
+            '{"id":1,"status":"NE"}'                    || '/status'             | 'Value not allowed by enum'
+            '{"id":1,"customer":"j"}'                   || '/customer'           | 'String shorter than 2'
+            '{"id":1,"customer":"johnathan"}'           || '/customer'           | 'String longer than 8'
+            '{"id":1,"customer":"John"}'                || '/customer'           | 'String not matching pattern'
+            '{"id":1,"price":0}'                        || '/price'              | 'Value below minimum'
+            '{"id":1,"price":"1"}'                      || '/price'              | 'Expected number'
+            '{"id":1,"express":1}'                      || '/express'            | 'Expected boolean'
+            '{"id":1,"lines":{}}'                       || '/lines'              | 'Expected array'
+            '{"id":1,"lines":[{},{},{}]}'               || '/lines'              | 'Array with more than 2 items'
+            '{"id":1,"lines":[{"quantity":5},{"quantity":7}]}' || '/lines/1/quantity' | 'Value not divisible by 5'
+            '{"id":1} {}'                               || ''                    | 'Unexpected content after payload'
+            ''                                          || ''                    | 'Empty payload'
+    }
+
+    def 'Should report malformed payload'() {
+        when:
+            def violation = validator.validate('{"id":1,"status":'.bytes)
+
+        then:
+            violation.get().message.startsWith('Malformed payload: Unexpected end-of-input')
+    }
+
+    def 'Should reject unexpected properties when additional properties are not allowed'() {
+        given:
+            def closedSchema = new ObjectSchema(id: 'closed', properties: [id: new IntegerSchema(id: 'id')])
+            closedSchema.rejectAdditionalProperties()
+
+        expect:
+            PayloadValidator.compile(closedSchema).validate('{"id":1,"other":2}'.bytes) ==
+                    Optional.of(new PayloadViolation('/other', 'Unexpected property'))
+    }
+
+    def 'Should measure string length in code points'() {
+        given:
+            def stringValidator = PayloadValidator.compile(new StringSchema(id: 'emoji', minLength: 2, maxLength: 2))
+
+        expect:
+            stringValidator.isValid('"\\uD83D\\uDE00\\uD83D\\uDE00"'.bytes)
+            stringValidator.validate('"\\uD83D\\uDE00"'.bytes).get() == new PayloadViolation('', 'String shorter than 2')
+            stringValidator.validate('"\\uD83D\\uDE00ab"'.bytes).get() == new PayloadViolation('', 'String longer than 2')
+    }
+
+    def 'Should not count duplicated required properties twice when there are more than 64 of them'() {
+        given:
+            def wideSchema = new ObjectSchema(id: 'wide', properties: (0..69).collectEntries {
+                ["p$it".toString(), new IntegerSchema(id: "p$it", required: true)]
+            })
+            def payload = '{' + (0..68).collect { "\"p$it\":1" }.join(',') + ',"p68":1}'
+
+        expect:
+            PayloadValidator.compile(wideSchema).validate(payload.bytes).get() ==
+                    new PayloadViolation('', 'Missing required property: p69')
+    }
+
+    def 'Should validate tuple array items'() {
+        given:
+            def tupleSchema = new ArraySchema(id: 'pair', items: new ArraySchema.ArrayItems(
+                    [new StringSchema(id: 'key'), new IntegerSchema(id: 'value')] as JsonSchema[]))
+            tupleSchema.additionalItems = new ArraySchema.NoAdditionalItems()
+            def tupleValidator = PayloadValidator.compile(tupleSchema)
+
+        expect:
+            tupleValidator.isValid('["a",1]'.bytes)
+            tupleValidator.validate('[1,1]'.bytes).get() == new PayloadViolation('/0', 'Expected string')
+            tupleValidator.validate('["a",1,2]'.bytes).get() == new PayloadViolation('/2', 'Unexpected array item')
+    }
+
+    def 'Should validate recursive schemas resolved from shared definitions'() {
+        given:
+            def node = new ObjectSchema(id: 'Node', properties: [value: new StringSchema(id: 'value'), next: reference('Node')])
+            def listValidator = PayloadValidator.compile(
+                    new ObjectSchema(id: 'list', properties: [head: reference('Node')]),
+                    SchemaReferences.of([Node: node]))
+
+        expect:
+            listValidator.isValid('{"head":{"value":"a","next":{"value":"b","next":null}}}'.bytes)
+            listValidator.validate('{"head":{"value":"a","next":{"value":1}}}'.bytes).get() ==
+                    new PayloadViolation('/head/next/value', 'Expected string')
+    }
+
+    def 'Should validate consecutive payloads read from a single parser'() {
+        given:
+            def parser = new JsonFactory().createParser('{"id":1} {"id":0} {"id":2}')
+            def results = []
+
+        when:
+            while (parser.nextToken() != null) {
+                results << validator.isValid(parser)
+            }
+
+        then:
+            results == [true, false, true]
+    }
+
+    private static ObjectSchema reference(String name) {
+        def schema = new ObjectSchema()
+        schema.set$ref("#/definitions/$name")
+        schema
+    }
+}
@@ -0,0 +1,166 @@
+package com.hltech.vaunt.validator.payload
+
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.validator.schema.SchemaReferences
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.core.domain.model.DestinationType.TOPIC
+
+class ShadowValidatorUT extends Specification {
+
+    def contracts = [
+            new Contract(QUEUE, 'orders', new ObjectSchema(id: 'order', properties: [id: new IntegerSchema(id: 'id', required: true)])),
+            new Contract(QUEUE, 'orders', new ObjectSchema(id: 'cancel', properties: [reason: new StringSchema(id: 'reason', required: true)])),
+            new Contract(TOPIC, 'payments', new StringSchema(id: 'payment'))
+    ]
+
+    def violations = new CopyOnWriteArrayList<ShadowViolation>()
+
+    def conditions = new PollingConditions(timeout: 10)
+
+    ShadowValidator validator
+
+    def cleanup() {
+        validator?.close()
+    }
+
+    def 'Should report payload violating every contract of its destination'() {
+        given:
+            validator = new ShadowValidator(contracts, { violations.addAll(it) })
+
+        when:
+            validator.offer(QUEUE, 'orders', '{"id":1}'.bytes)
+            validator.offer(QUEUE, 'orders', '{"reason":"late"}'.bytes)
+            validator.offer(QUEUE, 'orders', '{"id":"1"}'.bytes)
+            validator.offer(TOPIC, 'payments', '"paid"'.bytes)
+
+        then:
+            conditions.eventually {
+                assert validator.statistics.validated == 4
+            }
+            violations.size() == 1
+            with(violations[0]) {
+                destinationType == QUEUE
+                destinationName == 'orders'
+                new String(payload) == '{"id":"1"}'
+                it.violations == [
+                        new PayloadViolation('/id', 'Expected integer'),
+                        new PayloadViolation('', 'Missing required property: reason')
+                ]
+            }
+            validator.statistics.violated == 1
+    }
+
+    def 'Should validate payloads handed over without copying'() {
+        given:
+            validator = new ShadowValidator(contracts, { violations.addAll(it) })
+            def payload = '{"id":"1"}'.bytes
+
+        when:
+            def accepted = validator.offerOwned(QUEUE, 'orders', payload)
+
+        then:
+            accepted
+            conditions.eventually {
+                assert violations.size() == 1
+            }
+            violations[0].payload.is(payload)
+    }
+
+    def 'Should ignore payloads of destinations without contracts'() {
+        given:
+            validator = new ShadowValidator(contracts, { violations.addAll(it) })
+
+        expect:
+            !validator.offer(TOPIC, 'orders', '{}'.bytes)
+            !validator.offer(QUEUE, 'unknown', '{}'.bytes)
+            validator.statistics == new ShadowValidationStatistics(2, 0, 0, 0, 0, 0)
+    }
+
+    def 'Should validate no payloads when sampling rate is zero'() {
+        given:
+            validator = new ShadowValidator(contracts, SchemaReferences.NONE, { violations.addAll(it) }, 0, 16, 4, 1)
+
+        when:
+            def accepted = (1..100).collect { validator.offer(QUEUE, 'orders', '{}'.bytes) }
+
+        then:
+            accepted.every { !it }
+            validator.statistics.offered == 100
+            validator.statistics.sampled == 0
+    }
+
+    def 'Should drop payloads when queue is full instead of blocking publisher'() {
+        given:
+            def sinkEntered = new CountDownLatch(1)
+            def sinkReleased = new CountDownLatch(1)
+            validator = new ShadowValidator(contracts, SchemaReferences.NONE, {
+                sinkEntered.countDown()
+                sinkReleased.await()
+                violations.addAll(it)
+            }, 1, 2, 1, 1)
+
+        when:
+            validator.offer(QUEUE, 'orders', '{}'.bytes)
+            sinkEntered.await()
+            def accepted = (1..5).collect { validator.offer(QUEUE, 'orders', '{}'.bytes) }
+
+        then:
+            accepted == [true, true, false, false, false]
+            validator.statistics.dropped == 3
+
+        when:
+            sinkReleased.countDown()
+            validator.close()
+
+        then:
+            violations.size() == 3
+            validator.statistics == new ShadowValidationStatistics(6, 6, 3, 3, 3, 0)
+    }
+
+    def 'Should count sink failures and keep validating'() {
+        given:
+            validator = new ShadowValidator(contracts, { throw new IllegalStateException('sink down') })
+
+        when:
+            validator.offer(TOPIC, 'payments', '1'.bytes)
+            validator.offer(TOPIC, 'payments', '2'.bytes)
+
+        then:
+            conditions.eventually {
+                assert validator.statistics.validated == 2
+                assert validator.statistics.sinkFailures >= 1
+            }
+    }
+
+    def 'Should validate remaining payloads and reject new ones on close'() {
+        given:
+            validator = new ShadowValidator(contracts, SchemaReferences.NONE, { violations.addAll(it) }, 1, 1024, 8, 2)
+            (1..100).each { validator.offer(TOPIC, 'payments', '1'.bytes) }
+
+        when:
+            validator.close()
+
+        then:
+            validator.statistics.validated == 100
+            violations.size() == 100
+            !validator.offer(TOPIC, 'payments', '1'.bytes)
+    }
+
+    def 'Should reject invalid settings'() {
+        when:
+            new ShadowValidator(contracts, SchemaReferences.NONE, {}, 1.5, 16, 4, 1)
+
+        then:
+            def ex = thrown IllegalArgumentException
+            ex.message == 'Sampling rate must be between 0 and 1, was: 1.5'
+    }
+}
@@ -16,7 +16,7 @@ class ArraySchemaValidatorUT extends Specification {
 
     def 'Should return no errors for matching ArraySchemas'() {
         expect:
-            validator.validate(consumerSchema, providerSchema).size() == 0
+            validator.findErrors(consumerSchema, providerSchema).size() == 0
 
         where:
             consumerSchema    | providerSchema
@@ -27,11 +27,11 @@ class ArraySchemaValidatorUT extends Specification {
     @Unroll
     def 'Should return error for consumer ArraySchema being different in #field from producer ArraySchema'() {
         when:
-            def resultList = validator.validate(consumerSchema, providerSchema)
+            def resultList = validator.findErrors(consumerSchema, providerSchema)
 
         then:
             resultList.size() == 1
-            resultList.get(0) == error
+            resultList.get(0).message == error
 
         where:
             field                  | consumerSchema                                                                | providerSchema                                                                   | error
@@ -69,7 +69,7 @@ class ArraySchemaValidatorUT extends Specification {
             providerSchema.setOneOf(providerEnums)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == errors
+            validator.findErrors(consumerSchema, providerSchema)*.message == errors
 
         where:
             consumerEnums                               | providerEnums                                | errors
@@ -88,7 +88,7 @@ class ArraySchemaValidatorUT extends Specification {
             providerSchema.setRequired(true)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == []
+            validator.findErrors(consumerSchema, providerSchema) == []
     }
 
     def getSampleSchema() {
@@ -0,0 +1,66 @@
+package com.hltech.vaunt.validator.schema
+
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.validator.ValidationMode
+import spock.lang.Specification
+
+class CompiledSchemaUT extends Specification {
+
+    def 'Should report same errors for compiled provider as for provider schema'() {
+        given:
+            def consumerReferences = SchemaReferences.of([
+                    A: new ObjectSchema(id: 'A', properties: [b: reference('B')]),
+                    B: new ObjectSchema(id: 'B', properties: [a: reference('A'), s: new StringSchema(id: 's', minLength: 1)])])
+            def providerReferences = SchemaReferences.of([
+                    A: new ObjectSchema(id: 'A', properties: [b: reference('B')]),
+                    B: new ObjectSchema(id: 'B', properties: [a: reference('A'), s: new StringSchema(id: 's', minLength: 2)])])
+            def consumerSchema = new ObjectSchema(id: 'root', properties: [
+                    first: reference('A'), second: reference('B'), count: new IntegerSchema(id: 'count')])
+            def providerSchema = new ObjectSchema(id: 'root', properties: [
+                    first: reference('A'), second: reference('B'), count: new StringSchema(id: 'count')])
+
+        when:
+            def errors = SchemaValidator.findErrors(consumerSchema, consumerReferences,
+                    SchemaValidator.compile(providerSchema, providerReferences),
+                    ValidationMode.ALL, null, VauntListener.NO_OP, SchemaValidator.DEFAULT_MAX_DEPTH)
+
+        then:
+            errors*.toString() == SchemaValidator.findErrors(
+                    consumerSchema, consumerReferences, providerSchema, providerReferences, ValidationMode.ALL)*.toString()
+            errors*.path*.toString() == ['$.first.b.s', '$.second.a.b.s', '$.second.s', '$.count']
+    }
+
+    def 'Should compile each distinct subschema once'() {
+        given:
+            def references = SchemaReferences.of([
+                    Address: new ObjectSchema(id: 'Address', properties: [street: new StringSchema(id: 'street')])])
+            def street = new StringSchema(id: 'street')
+            def schema = new ObjectSchema(id: 'order', properties: [
+                    billing: reference('Address'), shipping: reference('Address'), first: street, second: street])
+
+        expect:
+            SchemaValidator.compile(schema, references).size() == 4
+    }
+
+    def 'Should tell compatibility against compiled provider with unresolvable reference in unused property'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'order', properties: [name: new StringSchema(id: 'name')])
+            def providerSchema = new ObjectSchema(id: 'order', properties: [
+                    name: new StringSchema(id: 'name'), missing: reference('Missing')])
+            def providerReferences = SchemaReferences.of([Other: new StringSchema()])
+
+        expect:
+            SchemaValidator.isCompatible(consumerSchema, SchemaReferences.NONE,
+                    SchemaValidator.compile(providerSchema, providerReferences),
+                    null, VauntListener.NO_OP, SchemaValidator.DEFAULT_MAX_DEPTH)
+    }
+
+    private static ObjectSchema reference(String name) {
+        def schema = new ObjectSchema()
+        schema.set$ref("#/definitions/$name")
+        schema
+    }
+}
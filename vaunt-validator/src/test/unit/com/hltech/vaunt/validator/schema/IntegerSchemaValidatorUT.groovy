@@ -16,7 +16,7 @@ class IntegerSchemaValidatorUT extends Specification {
 
     def 'Should return no errors for the same IntegerSchemas'() {
         expect:
-            validator.validate(consumerSchema, providerSchema).size() == 0
+            validator.findErrors(consumerSchema, providerSchema).size() == 0
 
         where:
             consumerSchema      | providerSchema
@@ -27,11 +27,11 @@ class IntegerSchemaValidatorUT extends Specification {
     @Unroll
     def 'Should return error for consumer IntegerSchema being different in #field from producer IntegerSchema'() {
         when:
-            def resultList = validator.validate(consumerSchema, providerSchema)
+            def resultList = validator.findErrors(consumerSchema, providerSchema)
 
         then:
             resultList.size() == 1
-            resultList.get(0) == error
+            resultList.get(0).message == error
 
         where:
             field              | consumerSchema                                                                   | providerSchema                                                                   | error
@@ -68,7 +68,7 @@ class IntegerSchemaValidatorUT extends Specification {
             providerSchema.setEnums(providerEnums)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == errors
+            validator.findErrors(consumerSchema, providerSchema)*.message == errors
 
         where:
             consumerEnums                               | providerEnums                               | errors
@@ -87,7 +87,7 @@ class IntegerSchemaValidatorUT extends Specification {
             providerSchema.setRequired(true)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == []
+            validator.findErrors(consumerSchema, providerSchema) == []
     }
 
     def getSampleSchema() {
@@ -16,7 +16,7 @@ class NumberSchemaValidatorUT extends Specification {
 
     def 'Should return no errors for the same NumberSchemas'() {
         expect:
-            validator.validate(consumerSchema, providerSchema).size() == 0
+            validator.findErrors(consumerSchema, providerSchema).size() == 0
 
         where:
             consumerSchema     | providerSchema
@@ -27,11 +27,11 @@ class NumberSchemaValidatorUT extends Specification {
     @Unroll
     def 'Should return error for consumer NumberSchema being different in #field from producer NumberSchema'() {
         when:
-            def resultList = validator.validate(consumerSchema, providerSchema)
+            def resultList = validator.findErrors(consumerSchema, providerSchema)
 
         then:
             resultList.size() == 1
-            resultList.get(0) == error
+            resultList.get(0).message == error
 
         where:
             field              | consumerSchema                                                             | providerSchema                                                             | error
@@ -67,7 +67,7 @@ class NumberSchemaValidatorUT extends Specification {
             providerSchema.setEnums(providerEnums)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == errors
+            validator.findErrors(consumerSchema, providerSchema)*.message == errors
 
         where:
             consumerEnums                               | providerEnums                               | errors
@@ -86,7 +86,7 @@ class NumberSchemaValidatorUT extends Specification {
             providerSchema.setRequired(true)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == []
+            validator.findErrors(consumerSchema, providerSchema) == []
     }
 
     def getSampleSchema() {
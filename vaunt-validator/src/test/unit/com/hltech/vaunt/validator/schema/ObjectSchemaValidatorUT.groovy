@@ -16,7 +16,7 @@ class ObjectSchemaValidatorUT extends Specification {
 
     def 'Should return no errors for the same ObjectSchemas'() {
         expect:
-            validator.validate(consumerSchema, providerSchema) == []
+            validator.findErrors(consumerSchema, providerSchema) == []
 
         where:
             consumerSchema     | providerSchema
@@ -27,11 +27,11 @@ class ObjectSchemaValidatorUT extends Specification {
     @Unroll
     def 'Should return error for consumer ObjectSchema being different in #field from producer ObjectSchema'() {
         when:
-            def resultList = validator.validate(consumerSchema, providerSchema)
+            def resultList = validator.findErrors(consumerSchema, providerSchema)
 
         then:
             resultList.size() == 1
-            resultList.get(0) == error
+            resultList.get(0).message == error
 
         where:
             field                  | consumerSchema                                                                    | providerSchema                                                                    | error
@@ -68,7 +68,7 @@ class ObjectSchemaValidatorUT extends Specification {
             providerSchema.setOneOf(providerEnums)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == errors
+            validator.findErrors(consumerSchema, providerSchema)*.message == errors
 
         where:
             consumerEnums                               | providerEnums                                | errors
@@ -89,7 +89,7 @@ class ObjectSchemaValidatorUT extends Specification {
             providerSchema.setProperties(['a': getSchemaWithExtended('ab'), 'c': getSchemaWithExtended('cd')])
 
         expect:
-            validator.validate(consumerSchema, providerSchema).size() == 0
+            validator.findErrors(consumerSchema, providerSchema).size() == 0
     }
 
     def 'Should return error when ObjectSchema of consumer contains superset of provider properties'() {
@@ -103,7 +103,25 @@ class ObjectSchemaValidatorUT extends Specification {
             providerSchema.setProperties(['a': getSchemaWithExtended('ab')])
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == ['Schema with id a has not matching properties - consumer: ids of properties: [a, c], provider: ids of properties: [a]']
+            validator.findErrors(consumerSchema, providerSchema)*.message == ['Schema with id a has not matching properties - consumer: ids of properties: [a, c], provider: ids of properties: [a]']
+    }
+
+    def 'Should return errors of nested properties with path to the property'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: ['inner': new ObjectSchema(id: 'b', properties: ['name': new StringSchema(id: 'c', minLength: 1)])])
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['inner': new ObjectSchema(id: 'b', properties: ['name': new StringSchema(id: 'c', minLength: 2)])])
+
+        when:
+            def errors = validator.findErrors(consumerSchema, providerSchema)
+
+        then:
+            errors.size() == 1
+            errors[0].schemaId == 'c'
+            errors[0].keyword == 'minLength'
+            errors[0].consumerValue == 1
+            errors[0].providerValue == 2
+            errors[0].path.toString() == '$.inner.name'
+            errors[0].message == 'Schema with id c has not matching minLength - consumer: 1, provider: 2'
     }
 
     def 'Should pass validation when provider schema is required and consumer is not'() {
@@ -115,7 +133,7 @@ class ObjectSchemaValidatorUT extends Specification {
             providerSchema.setRequired(true)
 
         expect:
-            validator.validate(consumerSchema, providerSchema) == []
+            validator.findErrors(consumerSchema, providerSchema) == []
     }
 
     def getSampleSchema() {
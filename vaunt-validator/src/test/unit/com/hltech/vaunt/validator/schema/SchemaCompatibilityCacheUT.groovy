@@ -0,0 +1,140 @@
+package com.hltech.vaunt.validator.schema
+
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
+import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
+import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.validator.ValidationMode
+import com.hltech.vaunt.validator.VauntValidator
+import spock.lang.Specification
+import spock.lang.Subject
+
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+
+class SchemaCompatibilityCacheUT extends Specification {
+
+    @Subject
+    def cache = new SchemaCompatibilityCache()
+
+    def cleanup() {
+        SchemaValidator.registerValidator(new StringSchemaValidator())
+    }
+
+    def 'Should reuse cached results of structurally identical nested properties'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: ['home': address(1), 'work': address(1)])
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['home': address(2), 'work': address(2)])
+
+        when:
+            def errors = validate(consumerSchema, providerSchema)
+
+        then:
+            errors*.path*.toString() as Set == ['$.home.street', '$.work.street'] as Set
+            errors*.message == ['Schema with id street has not matching minLength - consumer: 1, provider: 2'] * 2
+            cache.stats.hitCount() == 1
+            cache.hitRate > 0.0d
+    }
+
+    def 'Should not reuse cached results of structurally different nested properties'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: ['home': address(1), 'work': address(1)])
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['home': address(2), 'work': address(3)])
+
+        when:
+            def errors = validate(consumerSchema, providerSchema)
+
+        then:
+            errors*.message == [
+                    'Schema with id street has not matching minLength - consumer: 1, provider: 2',
+                    'Schema with id street has not matching minLength - consumer: 1, provider: 3']
+    }
+
+    def 'Should evict results when maximum size is exceeded'() {
+        given:
+            def boundedCache = new SchemaCompatibilityCache(2)
+
+        when:
+            (1..10).each {
+                SchemaValidator.findErrors(
+                        new ObjectSchema(id: 'a', properties: ['home': address(it)]), SchemaReferences.NONE,
+                        new ObjectSchema(id: 'a', properties: ['home': address(it)]), SchemaReferences.NONE,
+                        ValidationMode.ALL, boundedCache)
+            }
+
+        then:
+            boundedCache.size() <= 2
+    }
+
+    def 'Should reuse fingerprints of validated schemas across validations'() {
+        given:
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['home': address(2)])
+
+        when:
+            validate(new ObjectSchema(id: 'a', properties: ['home': address(1)]), providerSchema)
+            providerSchema.properties.home.properties.street.minLength = 1
+            def errors = validate(new ObjectSchema(id: 'a', properties: ['home': address(1)]), providerSchema)
+
+        then:
+            errors*.message == ['Schema with id street has not matching minLength - consumer: 1, provider: 2']
+    }
+
+    def 'Should not return stale results for schema modified before invalidation'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: ['home': address(1)])
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['home': address(1)])
+
+        when:
+            def firstErrors = validate(consumerSchema, providerSchema)
+            providerSchema.properties.home.properties.street.minLength = 2
+            cache.invalidateAll()
+            def secondErrors = validate(consumerSchema, providerSchema)
+
+        then:
+            firstErrors == []
+            secondErrors*.message == ['Schema with id street has not matching minLength - consumer: 1, provider: 2']
+    }
+
+    def 'Should not reuse results computed before validator registration'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: ['home': address(1)])
+            def providerSchema = new ObjectSchema(id: 'a', properties: ['home': address(2)])
+            validate(consumerSchema, providerSchema)
+
+        when:
+            SchemaValidator.registerValidator(new StringSchemaValidator() {
+                @Override
+                void check(JsonSchema consumer, JsonSchema provider, ErrorSink errors) {
+                }
+            })
+
+        then:
+            validate(consumerSchema, providerSchema) == []
+    }
+
+    def 'Should report statistics of cache owned by validator'() {
+        given:
+            def listener = Mock(VauntListener)
+            def validator = new VauntValidator(listener, ValidationMode.ALL, cache)
+            def consumerContract = new Contract(QUEUE, 'queue', new ObjectSchema(id: 'a', properties: ['home': address(1)]))
+            def providerContract = new Contract(QUEUE, 'queue', new ObjectSchema(id: 'a', properties: ['home': address(1)]))
+
+        when:
+            validator.validate([consumerContract], [providerContract])
+
+        then:
+            1 * listener.onCacheStats('schemaCompatibilityCache', { it.missCount() > 0 })
+    }
+
+    def validate(JsonSchema consumerSchema, JsonSchema providerSchema) {
+        SchemaValidator.findErrors(
+                consumerSchema, SchemaReferences.NONE, providerSchema, SchemaReferences.NONE, ValidationMode.ALL, cache)
+    }
+
+    def address(int minLength) {
+        new ObjectSchema(id: 'Address', properties: [
+                'street': new StringSchema(id: 'street', minLength: minLength),
+                'number': new IntegerSchema(id: 'number')])
+    }
+}
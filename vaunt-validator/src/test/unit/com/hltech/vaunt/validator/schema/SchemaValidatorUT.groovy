@@ -1,12 +1,21 @@
 package com.hltech.vaunt.validator.schema
 
+import com.fasterxml.jackson.module.jsonSchema.JsonSchema
 import com.fasterxml.jackson.module.jsonSchema.types.IntegerSchema
 import com.fasterxml.jackson.module.jsonSchema.types.NullSchema
+import com.fasterxml.jackson.module.jsonSchema.types.ObjectSchema
 import com.fasterxml.jackson.module.jsonSchema.types.StringSchema
+import com.hltech.vaunt.core.VauntListener
+import com.hltech.vaunt.core.domain.model.Contract
+import com.hltech.vaunt.validator.ValidationMode
 import com.hltech.vaunt.validator.VauntValidationException
+import com.hltech.vaunt.validator.VauntValidator
 import spock.lang.Specification
 import spock.lang.Subject
 
+import static com.hltech.vaunt.core.domain.model.DestinationType.QUEUE
+import static com.hltech.vaunt.validator.ValidationResult.ValidationStatus.OK
+
 class SchemaValidatorUT extends Specification {
 
     @Subject
@@ -25,26 +34,211 @@ class SchemaValidatorUT extends Specification {
 
     def 'Should return a value when a validator is found for given consumer and provider schemas'() {
         expect:
-            validator.validate(new StringSchema(), new StringSchema()) != null
+            validator.findErrors(new StringSchema(), new StringSchema()) != null
     }
 
     def 'Should return error when consumer has different schema than provider'() {
         when:
-            def errors = validator.validate(new StringSchema(id: 'a'), new IntegerSchema(id: 'b'))
+            def errors = validator.findErrors(new StringSchema(id: 'a'), new IntegerSchema(id: 'b'))
 
         then:
             errors
             errors.size() == 1
-            errors[0] == 'Consumer schema with id a and type StringSchema does not match provider schema with id b and type IntegerSchema'
+            errors[0].message == 'Consumer schema with id a and type StringSchema does not match provider schema with id b and type IntegerSchema'
+    }
+
+    def 'Should accept identical schema instance without dispatching to validator'() {
+        given:
+            def schema = new NullSchema(id: 'a')
+
+        expect:
+            validator.findErrors(schema, schema) == []
     }
 
     def 'Should throw exception when no validator found for given schema'() {
         when:
-            def errors = validator.validate(new NullSchema(id: 'a'), new NullSchema(id: 'b'))
+            def errors = validator.findErrors(new NullSchema(id: 'a'), new NullSchema(id: 'b'))
 
         then:
             errors == null
             def ex = thrown VauntValidationException
             ex.getMessage() == 'Exactly one validator should exist for consumer and provider of type NullSchema'
     }
+
+    def 'Should dispatch validation to registered validator replacing the one supporting the same schema type'() {
+        given:
+            def customValidator = Mock(JsonSchemaValidator) {
+                supportsSchemaType() >> StringSchema
+            }
+
+        when:
+            SchemaValidator.registerValidator(customValidator)
+            def errors = validator.findErrors(new StringSchema(id: 'a'), new StringSchema(id: 'b'))
+
+        then:
+            1 * customValidator.check(_, _, _) >> { consumer, provider, ErrorSink sink -> sink.notMatching('a', 'custom') }
+            errors*.message == ['Schema with id a has not matching custom']
+            validator.schemaValidators.size() == 6
+            !validator.schemaValidators.any({it -> it.class == StringSchemaValidator})
+
+        cleanup:
+            SchemaValidator.registerValidator(new StringSchemaValidator())
+    }
+
+    def 'Should keep returning error messages from deprecated validation methods'() {
+        given:
+            def consumerSchema = new StringSchema(id: 'a', minLength: 1)
+            def providerSchema = new StringSchema(id: 'a', minLength: 2)
+            def message = 'Schema with id a has not matching minLength - consumer: 1, provider: 2'
+
+        expect:
+            SchemaValidator.validate(consumerSchema, providerSchema) == [message]
+            new StringSchemaValidator().validate(consumerSchema, providerSchema) == [message]
+    }
+
+    def 'Should stop at the first error in fail fast mode'() {
+        given:
+            def consumerSchema = new ObjectSchema(id: 'a', properties: [
+                    'first': new StringSchema(id: 'first', minLength: 1, maxLength: 1),
+                    'second': new StringSchema(id: 'second', minLength: 1)])
+            def providerSchema = new ObjectSchema(id: 'a', properties: [
+                    'first': new StringSchema(id: 'first', minLength: 2, maxLength: 2),
+                    'second': new StringSchema(id: 'second', minLength: 2)])
+
+        expect:
+            validator.findErrors(consumerSchema, providerSchema, ValidationMode.ALL).size() == 3
+            validator.findErrors(consumerSchema, providerSchema, ValidationMode.FAIL_FAST)*.message ==
+                    ['Schema with id first has not matching minLength - consumer: 1, provider: 2']
+    }
+
+    def 'Should tell whether schemas are compatible'() {
+        expect:
+            validator.isCompatible(nested(10, 1), nested(10, 1))
+            !validator.isCompatible(nested(10, 1), nested(10, 2))
+            !validator.isCompatible(new StringSchema(id: 'a'), new IntegerSchema(id: 'a'))
+    }
+
+    def 'Should tell compatibility using keyword checks of registered validator'() {
+        given:
+            SchemaValidator.registerValidator(new StringSchemaValidator() {
+                @Override
+                void check(JsonSchema consumer, JsonSchema provider, ErrorSink errors) {
+                    errors.notMatching(consumer.id, 'custom')
+                }
+            })
+
+        expect:
+            !validator.isCompatible(nested(1, 1), nested(1, 1))
+
+        cleanup:
+            SchemaValidator.registerValidator(new StringSchemaValidator())
+    }
+
+    def 'Should not descend into properties once compatibility check fails'() {
+        given:
+            def listener = Mock(VauntListener)
+            def consumerSchema = new ObjectSchema(id: 'a', description: 'a', properties: ['s': new StringSchema(id: 's')])
+            def providerSchema = new ObjectSchema(id: 'a', description: 'b', properties: ['s': new StringSchema(id: 's')])
+
+        when:
+            def compatible = SchemaValidator.isCompatible(
+                    consumerSchema, SchemaReferences.NONE, providerSchema, SchemaReferences.NONE, null, listener)
+
+        then:
+            !compatible
+            1 * listener.onSchemaValidation(ObjectSchema, _)
+            0 * listener.onSchemaValidation(StringSchema, _)
+    }
+
+    def 'Should compare definitions referenced from many places once per traversal'() {
+        given:
+            def listener = Mock(VauntListener)
+            def consumerSchema = new ObjectSchema(id: 'order', properties: [billing: reference('Address'), shipping: reference('Address')])
+            def providerSchema = new ObjectSchema(id: 'order', properties: [billing: reference('Address'), shipping: reference('Address')])
+
+        when:
+            def errors = SchemaValidator.findErrors(
+                    consumerSchema, SchemaReferences.of([Address: address(1)]),
+                    providerSchema, SchemaReferences.of([Address: address(2)]),
+                    ValidationMode.ALL, null, listener)
+
+        then:
+            errors*.path*.toString() == ['$.billing.street', '$.shipping.street']
+            1 * listener.onSchemaValidation(StringSchema, _)
+    }
+
+    def 'Should not reuse results of definitions compared within recursion'() {
+        given:
+            def consumerReferences = SchemaReferences.of([
+                    A: new ObjectSchema(id: 'A', properties: [b: reference('B')]),
+                    B: new ObjectSchema(id: 'B', properties: [a: reference('A'), s: new StringSchema(id: 's', minLength: 1)])])
+            def providerReferences = SchemaReferences.of([
+                    A: new ObjectSchema(id: 'A', properties: [b: reference('B')]),
+                    B: new ObjectSchema(id: 'B', properties: [a: reference('A'), s: new StringSchema(id: 's', minLength: 2)])])
+            def consumerSchema = new ObjectSchema(id: 'root', properties: [first: reference('A'), second: reference('B')])
+            def providerSchema = new ObjectSchema(id: 'root', properties: [first: reference('A'), second: reference('B')])
+
+        when:
+            def errors = SchemaValidator.findErrors(
+                    consumerSchema, consumerReferences, providerSchema, providerReferences, ValidationMode.ALL)
+
+        then:
+            errors*.path*.toString() == ['$.first.b.s', '$.second.a.b.s', '$.second.s']
+    }
+
+    def 'Should validate deeply nested schemas without recursing on the call stack'() {
+        given:
+            def consumerSchema = nested(5_000, 1)
+            def providerSchema = nested(5_000, 2)
+
+        when:
+            def errors = SchemaValidator.findErrors(consumerSchema, SchemaReferences.NONE, providerSchema,
+                    SchemaReferences.NONE, ValidationMode.ALL, null, VauntListener.NO_OP, 10_000)
+
+        then:
+            errors*.message == ['Schema with id leaf has not matching minLength - consumer: 1, provider: 2']
+            errors[0].path.properties.size() == 5_001
+    }
+
+    def 'Should throw exception when schema nesting exceeds maximum depth'() {
+        when:
+            SchemaValidator.findErrors(nested(3, 1), SchemaReferences.NONE, nested(3, 2), SchemaReferences.NONE,
+                    ValidationMode.ALL, null, VauntListener.NO_OP, 2)
+
+        then:
+            def ex = thrown VauntValidationException
+            ex.message == 'Schema nesting exceeds maximum depth of 2 at $.child.child.child'
+    }
+
+    def 'Should apply maximum depth of each validator independently'() {
+        given:
+            def consumerContract = new Contract(QUEUE, 'queue', nested(3, 1))
+            def providerContract = new Contract(QUEUE, 'queue', nested(3, 1))
+            def shallowValidator = new VauntValidator(VauntListener.NO_OP, ValidationMode.ALL, null, 2)
+
+        when:
+            shallowValidator.validate([consumerContract], [providerContract])
+
+        then:
+            thrown VauntValidationException
+            new VauntValidator().validate([consumerContract], [providerContract])*.result == [OK]
+    }
+
+    private static ObjectSchema address(int minLength) {
+        new ObjectSchema(id: 'Address', properties: ['street': new StringSchema(id: 'street', minLength: minLength)])
+    }
+
+    private static ObjectSchema reference(String name) {
+        def schema = new ObjectSchema()
+        schema.set$ref("#/definitions/$name")
+        schema
+    }
+
+    private static ObjectSchema nested(int depth, int minLength) {
+        def schema = new ObjectSchema(id: 'level', properties: ['leaf': new StringSchema(id: 'leaf', minLength: minLength)])
+        depth.times {
+            schema = new ObjectSchema(id: 'level', properties: ['child': schema])
+        }
+        schema
+    }
 }